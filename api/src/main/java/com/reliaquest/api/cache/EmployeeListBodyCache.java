@@ -0,0 +1,64 @@
+package com.reliaquest.api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.common.web.CachedJsonBody;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Keeps the serialized employee list of the current {@link EmployeeSnapshot}, so repeated list reads copy bytes
+ * instead of running Jackson over every employee. Compression follows the {@code server.compression} settings.
+ */
+@Slf4j
+@Component
+public class EmployeeListBodyCache {
+
+    private final ObjectWriter listWriter;
+    private final boolean compressionEnabled;
+    private final long compressionMinSize;
+
+    private volatile CachedJsonBody body;
+
+    public EmployeeListBodyCache(
+            ObjectMapper objectMapper,
+            @Value("${server.compression.enabled:false}") boolean compressionEnabled,
+            @Value("${server.compression.min-response-size:2KB}") DataSize compressionMinSize) {
+        // Resolves the list serializer up front instead of on every serialization.
+        this.listWriter = objectMapper.writerFor(new TypeReference<List<EmployeeResponseDTO>>() {});
+        this.compressionEnabled = compressionEnabled;
+        this.compressionMinSize = compressionMinSize.toBytes();
+    }
+
+    public CachedJsonBody get(EmployeeSnapshot snapshot) {
+        final var cached = body;
+        // A newer body than the caller's snapshot is still a valid answer.
+        if (cached != null && cached.version() >= snapshot.version()) {
+            return cached;
+        }
+        synchronized (this) {
+            if (body == null || body.version() < snapshot.version()) {
+                final var json = serialize(snapshot);
+                body = new CachedJsonBody(
+                        snapshot.version(), json, compressionEnabled && json.length >= compressionMinSize);
+                log.debug(
+                        "Serialized employee list for snapshot version {} ({} bytes)", snapshot.version(), json.length);
+            }
+            return body;
+        }
+    }
+
+    private byte[] serialize(EmployeeSnapshot snapshot) {
+        try {
+            return listWriter.writeValueAsBytes(snapshot.employees());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize employee list", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable view of the employee list as last fetched from the mock server.
+ * <p>
+ * {@code version} only changes when the fetched content differs, so derived data can be cached per version.
+ */
+public record EmployeeSnapshot(
+        long version, List<EmployeeResponseDTO> employees, Map<UUID, EmployeeResponseDTO> byId, Instant fetchedAt) {
+
+    public static EmployeeSnapshot of(long version, List<EmployeeResponseDTO> employees, Instant fetchedAt) {
+        return new EmployeeSnapshot(
+                version,
+                List.copyOf(employees),
+                employees.stream()
+                        .filter(employee -> employee.getId() != null)
+                        .collect(Collectors.toUnmodifiableMap(
+                                EmployeeResponseDTO::getId, Function.identity(), (first, second) -> first)),
+                fetchedAt);
+    }
+}
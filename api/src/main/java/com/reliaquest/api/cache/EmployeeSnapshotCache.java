@@ -0,0 +1,67 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the latest {@link EmployeeSnapshot}. Readers never block; publishing swaps the snapshot atomically and
+ * announces content changes with an {@link EmployeeSnapshotChangedEvent}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeSnapshotCache {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicReference<EmployeeSnapshot> snapshot = new AtomicReference<>();
+
+    public Optional<EmployeeSnapshot> current() {
+        return Optional.ofNullable(snapshot.get());
+    }
+
+    /**
+     * Installs {@code restored}, for example a snapshot loaded from a checkpoint, unless one has been published
+     * already.
+     */
+    public boolean restore(EmployeeSnapshot restored) {
+        if (!snapshot.compareAndSet(null, restored)) {
+            return false;
+        }
+        log.debug("Employee snapshot restored at version {}", restored.version());
+        eventPublisher.publishEvent(new EmployeeSnapshotChangedEvent(null, restored));
+        return true;
+    }
+
+    /**
+     * Publishes a freshly fetched employee list, keeping the current version if the content did not change.
+     */
+    public EmployeeSnapshot publish(List<EmployeeResponseDTO> employees) {
+        final var fetchedAt = Instant.now();
+        while (true) {
+            final var current = snapshot.get();
+            final EmployeeSnapshot next;
+            if (current == null) {
+                next = EmployeeSnapshot.of(1, employees, fetchedAt);
+            } else if (current.employees().equals(employees)) {
+                next = new EmployeeSnapshot(current.version(), current.employees(), current.byId(), fetchedAt);
+            } else {
+                next = EmployeeSnapshot.of(current.version() + 1, employees, fetchedAt);
+            }
+            if (snapshot.compareAndSet(current, next)) {
+                if (current == null || current.version() != next.version()) {
+                    log.debug("Employee snapshot advanced to version {}", next.version());
+                    eventPublisher.publishEvent(new EmployeeSnapshotChangedEvent(current, next));
+                }
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.reliaquest.api.cache;
+
+/**
+ * Published when {@link EmployeeSnapshotCache} advances to a new snapshot version.
+ *
+ * @param previous the replaced snapshot, or {@code null} for the first snapshot
+ * @param current the newly published snapshot
+ */
+public record EmployeeSnapshotChangedEvent(EmployeeSnapshot previous, EmployeeSnapshot current) {}
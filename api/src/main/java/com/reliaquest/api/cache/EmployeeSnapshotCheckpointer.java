@@ -0,0 +1,134 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.service.IEmployeeService;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Warm start for the employee snapshot across restarts.
+ * <p>
+ * Once all singletons are created, and so before the web server starts accepting connections, the last checkpoint
+ * written to {@code warm-start.file} is loaded into the {@link EmployeeSnapshotCache}, so snapshot-served endpoints
+ * answer from the first request instead of every instance refetching the full list from a rate-limited upstream. The
+ * restored snapshot keeps the time it was fetched at, so without precomputed views it is only served within
+ * {@code snapshot.max-age}. It is revalidated against upstream once the application has started, by the first round of
+ * the {@link com.reliaquest.api.service.EmployeeViewRefresher} when background refresh is enabled and in the background
+ * here otherwise; if the content is unchanged it keeps its version. While running, the snapshot is written back every
+ * {@code warm-start.checkpoint-interval} when its version has changed, and once more on shutdown.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "com.reliaquest.employee.api.warm-start", name = "enabled", havingValue = "true")
+public class EmployeeSnapshotCheckpointer implements SmartInitializingSingleton {
+
+    private final EmployeeSnapshotCache snapshotCache;
+    private final IEmployeeService employeeService;
+    private final Path file;
+    private final Duration checkpointInterval;
+    private final boolean backgroundRefresh;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final var thread = new Thread(runnable, "employee-snapshot-checkpoint");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private long checkpointedVersion = -1;
+
+    public EmployeeSnapshotCheckpointer(
+            EmployeeSnapshotCache snapshotCache,
+            IEmployeeService employeeService,
+            @Value("${com.reliaquest.employee.api.warm-start.file:data/employee-snapshot.bin}") Path file,
+            @Value("${com.reliaquest.employee.api.warm-start.checkpoint-interval:1m}") Duration checkpointInterval,
+            @Value("${com.reliaquest.employee.api.background-refresh.enabled:false}") boolean backgroundRefresh) {
+        this.snapshotCache = snapshotCache;
+        this.employeeService = employeeService;
+        this.file = file;
+        this.checkpointInterval = checkpointInterval;
+        this.backgroundRefresh = backgroundRefresh;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        restore();
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void startCheckpointing() {
+        if (!backgroundRefresh) {
+            scheduler.execute(this::revalidate);
+        }
+        scheduler.scheduleWithFixedDelay(
+                this::checkpoint, checkpointInterval.toMillis(), checkpointInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        checkpoint();
+    }
+
+    void restore() {
+        final var started = System.nanoTime();
+        try {
+            final var restored = EmployeeSnapshotFile.read(file);
+            if (snapshotCache.restore(restored)) {
+                synchronized (this) {
+                    checkpointedVersion = restored.version();
+                }
+                log.info(
+                        "Restored {} employees at snapshot version {} from {} (fetched at {}) in {} us",
+                        restored.employees().size(),
+                        restored.version(),
+                        file,
+                        restored.fetchedAt(),
+                        (System.nanoTime() - started) / 1_000);
+            }
+        } catch (NoSuchFileException e) {
+            log.info("No employee snapshot checkpoint at {}, starting cold", file);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable employee snapshot checkpoint {}: {}", file, e.getMessage());
+        }
+    }
+
+    void revalidate() {
+        try {
+            final var snapshot = employeeService.refreshEmployeeSnapshot();
+            log.info("Revalidated employee snapshot against upstream, now at version {}", snapshot.version());
+        } catch (RuntimeException e) {
+            log.warn("Background revalidation of the employee snapshot failed: {}", e.getMessage());
+        }
+    }
+
+    synchronized void checkpoint() {
+        final var snapshot = snapshotCache.current().orElse(null);
+        if (snapshot == null || snapshot.version() == checkpointedVersion) {
+            return;
+        }
+        try {
+            EmployeeSnapshotFile.write(file, snapshot);
+            checkpointedVersion = snapshot.version();
+            log.debug(
+                    "Checkpointed employee snapshot version {} to {} ({} bytes)",
+                    snapshot.version(),
+                    file,
+                    Files.size(file));
+        } catch (IOException e) {
+            log.warn("Failed to checkpoint employee snapshot to {}: {}", file, e.getMessage());
+        }
+    }
+}
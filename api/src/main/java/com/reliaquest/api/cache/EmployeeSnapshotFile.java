@@ -0,0 +1,181 @@
+package com.reliaquest.api.cache;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Binary checkpoint of an {@link EmployeeSnapshot}.
+ * <p>
+ * A fixed header holds a magic number, the format version, the snapshot version, the fetch time, the employee count
+ * and a CRC32 of the body. The body holds one variable-length record per employee: a byte of presence flags, the id as
+ * two longs, salary and age as ints, then name, title and email as length-prefixed UTF-8 ({@code -1} for null).
+ * Absent ids and numbers take no space. Files are replaced atomically, so a reader sees either the old or the new
+ * checkpoint.
+ */
+final class EmployeeSnapshotFile {
+
+    private static final int MAGIC = 0x454D5053;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_SALARY = 1 << 1;
+    private static final int HAS_AGE = 1 << 2;
+
+    private EmployeeSnapshotFile() {}
+
+    /**
+     * Writes {@code snapshot} to a sibling temporary file and moves it over {@code file}.
+     */
+    static void write(Path file, EmployeeSnapshot snapshot) throws IOException {
+        final var bytes = new ByteArrayOutputStream(snapshot.employees().size() * 96);
+        final var body = new DataOutputStream(bytes);
+        for (EmployeeResponseDTO employee : snapshot.employees()) {
+            writeRecord(body, employee);
+        }
+        body.flush();
+        final var records = ByteBuffer.wrap(bytes.toByteArray());
+        final var crc = new CRC32();
+        crc.update(records.duplicate());
+
+        final var header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(snapshot.version())
+                .putLong(snapshot.fetchedAt().toEpochMilli())
+                .putInt(snapshot.employees().size())
+                .putInt((int) crc.getValue())
+                .flip();
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        final var temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(temporary, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            final var buffers = new ByteBuffer[] {header, records};
+            while (header.hasRemaining() || records.hasRemaining()) {
+                channel.write(buffers);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Memory-maps {@code file} and decodes the snapshot it holds.
+     *
+     * @throws IOException if the file cannot be read or is not a complete checkpoint
+     */
+    static EmployeeSnapshot read(Path file) throws IOException {
+        try (var channel = FileChannel.open(file, READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Employee snapshot file has invalid size " + channel.size());
+            }
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("Unrecognized employee snapshot file format");
+            }
+            final var version = buffer.getLong();
+            final var fetchedAt = Instant.ofEpochMilli(buffer.getLong());
+            final var count = buffer.getInt();
+            final var expectedCrc = buffer.getInt();
+
+            final var crc = new CRC32();
+            crc.update(buffer.slice());
+            if ((int) crc.getValue() != expectedCrc) {
+                throw new IOException("Employee snapshot file checksum mismatch");
+            }
+            if (count < 0 || count > buffer.remaining()) {
+                throw new IOException("Corrupt employee snapshot file, employee count " + count);
+            }
+            final var employees = new ArrayList<EmployeeResponseDTO>(count);
+            try {
+                for (int i = 0; i < count; i++) {
+                    employees.add(readRecord(buffer));
+                }
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                throw new IOException("Corrupt employee snapshot file", e);
+            }
+            return EmployeeSnapshot.of(version, employees, fetchedAt);
+        }
+    }
+
+    private static void writeRecord(DataOutputStream out, EmployeeResponseDTO employee) throws IOException {
+        final var flags = (employee.getId() != null ? HAS_ID : 0)
+                | (employee.getEmployeeSalary() != null ? HAS_SALARY : 0)
+                | (employee.getEmployeeAge() != null ? HAS_AGE : 0);
+        out.writeByte(flags);
+        if (employee.getId() != null) {
+            out.writeLong(employee.getId().getMostSignificantBits());
+            out.writeLong(employee.getId().getLeastSignificantBits());
+        }
+        if (employee.getEmployeeSalary() != null) {
+            out.writeInt(employee.getEmployeeSalary());
+        }
+        if (employee.getEmployeeAge() != null) {
+            out.writeInt(employee.getEmployeeAge());
+        }
+        writeString(out, employee.getEmployeeName());
+        writeString(out, employee.getEmployeeTitle());
+        writeString(out, employee.getEmployeeEmail());
+    }
+
+    private static EmployeeResponseDTO readRecord(ByteBuffer buffer) {
+        final var flags = buffer.get();
+        final var employee = new EmployeeResponseDTO();
+        if ((flags & HAS_ID) != 0) {
+            employee.setId(new UUID(buffer.getLong(), buffer.getLong()));
+        }
+        if ((flags & HAS_SALARY) != 0) {
+            employee.setEmployeeSalary(buffer.getInt());
+        }
+        if ((flags & HAS_AGE) != 0) {
+            employee.setEmployeeAge(buffer.getInt());
+        }
+        employee.setEmployeeName(readString(buffer));
+        employee.setEmployeeTitle(readString(buffer));
+        employee.setEmployeeEmail(readString(buffer));
+        return employee;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        final var length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        final var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Answers to the list-derived employee endpoints, computed once from an {@link EmployeeSnapshot} so serving them takes
+ * neither an upstream call nor a sort. Name search still scans, but over names lower-cased ahead of time.
+ */
+public record EmployeeViews(
+        EmployeeSnapshot snapshot, int highestSalary, List<String> topTenNames, List<String> lowerCaseNames) {
+
+    private static final int TOP_N = 10;
+
+    public static EmployeeViews of(EmployeeSnapshot snapshot) {
+        final var employees = snapshot.employees();
+        final var highestSalary = employees.stream()
+                .map(EmployeeResponseDTO::getEmployeeSalary)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .max()
+                .orElse(0);
+        final var topTenNames = employees.stream()
+                .filter(employee -> employee.getEmployeeSalary() != null)
+                .sorted(Comparator.comparing(EmployeeResponseDTO::getEmployeeSalary)
+                        .reversed())
+                .limit(TOP_N)
+                .map(EmployeeResponseDTO::getEmployeeName)
+                .toList();
+        final var lowerCaseNames = new ArrayList<String>(employees.size());
+        for (EmployeeResponseDTO employee : employees) {
+            lowerCaseNames.add(
+                    employee.getEmployeeName() == null
+                            ? null
+                            : employee.getEmployeeName().toLowerCase());
+        }
+        return new EmployeeViews(snapshot, highestSalary, topTenNames, lowerCaseNames);
+    }
+
+    /**
+     * Returns the employees whose name contains {@code searchString}, ignoring case, in snapshot order.
+     */
+    public List<EmployeeResponseDTO> searchByName(String searchString) {
+        final var needle = searchString.toLowerCase();
+        final var matches = new ArrayList<EmployeeResponseDTO>();
+        for (int row = 0; row < lowerCaseNames.size(); row++) {
+            final var name = lowerCaseNames.get(row);
+            if (name != null && name.contains(needle)) {
+                matches.add(snapshot.employees().get(row));
+            }
+        }
+        return matches;
+    }
+}
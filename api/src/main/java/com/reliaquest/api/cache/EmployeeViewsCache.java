@@ -0,0 +1,67 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the {@link EmployeeViews} last installed by the background refresher. Empty while background refresh is off
+ * or has not completed yet, in which case reads go upstream as before.
+ * <p>
+ * Employees deleted through this api are not served by id from views built before the delete. Such an id stays marked
+ * until views of a snapshot without the employee are installed, so a refresh that raced with the delete cannot bring
+ * it back. The list-derived views are not patched and keep showing deleted employees, and not yet showing created
+ * ones, until the next refresh.
+ */
+@Component
+public class EmployeeViewsCache {
+
+    private final AtomicReference<EmployeeViews> views = new AtomicReference<>();
+    private final Set<UUID> deleted = ConcurrentHashMap.newKeySet();
+
+    public Optional<EmployeeViews> current() {
+        return Optional.ofNullable(views.get());
+    }
+
+    /**
+     * Returns the employee from the current views, or empty if there are none or the employee was deleted since they
+     * were built.
+     */
+    public Optional<EmployeeResponseDTO> findById(UUID id) {
+        final var current = views.get();
+        if (current == null || deleted.contains(id)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(current.snapshot().byId().get(id));
+    }
+
+    /**
+     * Whether the employee was deleted upstream after the current views were built.
+     */
+    public boolean isDeleted(UUID id) {
+        return deleted.contains(id);
+    }
+
+    /**
+     * Records that the employee was deleted upstream, so the current views stop serving it by id.
+     */
+    public void markDeleted(UUID id) {
+        final var current = views.get();
+        if (current != null && current.snapshot().byId().containsKey(id)) {
+            deleted.add(id);
+        }
+    }
+
+    /**
+     * Installs {@code next} for all subsequent reads, returning the views it replaced.
+     */
+    public EmployeeViews swap(EmployeeViews next) {
+        final var previous = views.getAndSet(next);
+        deleted.removeIf(id -> !next.snapshot().byId().containsKey(id));
+        return previous;
+    }
+}
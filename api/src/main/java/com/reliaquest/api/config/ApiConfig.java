@@ -1,13 +1,56 @@
 package com.reliaquest.api.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.reliaquest.api.dto.EmployeeListResponse;
+import com.reliaquest.api.dto.SingleEmployeeResponse;
+import com.reliaquest.api.timing.TimedJackson2HttpMessageConverter;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class ApiConfig {
+
+    // Picked up by Spring Boot for the application's ObjectMapper.
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(
+            ObjectMapper objectMapper,
+            @Value("${com.reliaquest.employee.api.http.version:HTTP_2}") HttpClient.Version httpVersion,
+            @Value("${com.reliaquest.employee.api.timeouts.connect:2s}") Duration connectTimeout,
+            @Value("${com.reliaquest.employee.api.timeouts.max:10s}") Duration readTimeout) {
+        // Against the plain-text mock server HTTP/2 means h2c: the first request upgrades its connection and concurrent
+        // requests are then multiplexed over it as streams, instead of each holding a socket of its own.
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(httpVersion)
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        // Adaptive timeouts release callers earlier; this read timeout bounds requests they stop waiting for.
+        requestFactory.setReadTimeout(readTimeout);
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        // Times JSON binding of upstream responses apart from the rest of the upstream call. The default converter
+        // builds an ObjectMapper of its own; upstream responses are bound by the application's one instead.
+        restTemplate.getMessageConverters().replaceAll(converter -> {
+            if (converter instanceof MappingJackson2HttpMessageConverter) {
+                return new TimedJackson2HttpMessageConverter(objectMapper);
+            }
+            return converter;
+        });
+        // Readers are cached by the ObjectMapper, so building them here moves introspecting the upstream responses and
+        // generating their accessors from the first upstream calls to startup.
+        objectMapper.readerFor(EmployeeListResponse.class);
+        objectMapper.readerFor(SingleEmployeeResponse.class);
+        return restTemplate;
     }
 }
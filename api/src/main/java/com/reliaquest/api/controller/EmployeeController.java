@@ -1,13 +1,20 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.cache.EmployeeListBodyCache;
+import com.reliaquest.api.dto.EmployeeGroupAggregateDTO;
+import com.reliaquest.api.dto.EmployeeQueryDTO;
+import com.reliaquest.api.dto.EmployeeQueryResultDTO;
 import com.reliaquest.api.dto.EmployeeRequestDTO;
 import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.dto.SalaryStatsDTO;
 import com.reliaquest.api.service.EmployeeServiceImpl;
+import com.reliaquest.api.stats.SalaryStatsService;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,10 +24,13 @@ import org.springframework.web.bind.annotation.*;
 @Slf4j
 public class EmployeeController {
     private final EmployeeServiceImpl service;
+    private final SalaryStatsService salaryStatsService;
+    private final EmployeeListBodyCache listBodyCache;
 
     @GetMapping
-    public ResponseEntity<List<EmployeeResponseDTO>> getAllEmployees() {
-        return ResponseEntity.ok(service.getAllEmployees());
+    public ResponseEntity<byte[]> getAllEmployees(
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return listBodyCache.get(service.getLatestEmployeeSnapshot()).toResponse(acceptEncoding);
     }
 
     @GetMapping("/highestSalary")
@@ -33,6 +43,33 @@ public class EmployeeController {
         return ResponseEntity.ok(service.getTopTenHighestEarningEmployeeNames());
     }
 
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<EmployeeResponseDTO>> autocompleteEmployees(
+            @RequestParam(name = "prefix") String prefix,
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        return ResponseEntity.ok(service.autocompleteEmployees(prefix, limit));
+    }
+
+    @GetMapping("/query")
+    public ResponseEntity<EmployeeQueryResultDTO> queryEmployees(@Valid EmployeeQueryDTO query) {
+        return ResponseEntity.ok(service.queryEmployees(query));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<SalaryStatsDTO> getSalaryStats(@RequestParam(name = "title", required = false) String title) {
+        return ResponseEntity.ok(salaryStatsService.getSalaryStats(title));
+    }
+
+    @GetMapping("/aggregates/byTitle")
+    public ResponseEntity<List<EmployeeGroupAggregateDTO>> getAggregatesByTitle() {
+        return ResponseEntity.ok(service.getAggregatesByTitle());
+    }
+
+    @GetMapping("/aggregates/byAgeBand")
+    public ResponseEntity<List<EmployeeGroupAggregateDTO>> getAggregatesByAgeBand() {
+        return ResponseEntity.ok(service.getAggregatesByAgeBand());
+    }
+
     @GetMapping("/{id:[0-9a-fA-F-]{36}}")
     public ResponseEntity<EmployeeResponseDTO> getEmployeeById(@PathVariable(name = "id", required = true) String id) {
         return service.getEmployeeById(UUID.fromString(id))
@@ -48,7 +85,7 @@ public class EmployeeController {
 
     @PostMapping
     public ResponseEntity<EmployeeResponseDTO> createEmployee(@Valid @RequestBody EmployeeRequestDTO employeeInput) {
-        log.info("Received payload: {}", employeeInput);
+        log.debug("Received payload: {}", employeeInput);
         return service.createEmployee(employeeInput)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.badRequest().build());
@@ -0,0 +1,42 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.dto.EmployeeCreateJobDTO;
+import com.reliaquest.api.dto.EmployeeRequestDTO;
+import com.reliaquest.api.service.EmployeeCreatePipeline;
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/employee/jobs")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "com.reliaquest.employee.api.async-create", name = "enabled", havingValue = "true")
+public class EmployeeCreateJobController {
+    private static final String RETRY_AFTER_SECONDS = "30";
+
+    private final EmployeeCreatePipeline pipeline;
+
+    @PostMapping
+    public ResponseEntity<EmployeeCreateJobDTO> createEmployee(@Valid @RequestBody EmployeeRequestDTO employeeInput) {
+        return pipeline.submit(employeeInput)
+                .map(job -> ResponseEntity.accepted()
+                        .location(URI.create("/api/v1/employee/jobs/" + job.getId()))
+                        .body(job))
+                .orElse(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                        .build());
+    }
+
+    @GetMapping("/{id:[0-9a-fA-F-]{36}}")
+    public ResponseEntity<EmployeeCreateJobDTO> getJob(@PathVariable(name = "id", required = true) String id) {
+        return pipeline.getJob(UUID.fromString(id))
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeGroupAggregateDTO {
+    private String group;
+    private long headcount;
+    private Integer minSalary;
+    private Integer maxSalary;
+    private Double averageSalary;
+}
@@ -0,0 +1,42 @@
+package com.reliaquest.api.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeQueryDTO {
+    @Min(value = 0, message = "Minimum salary cannot be negative")
+    private Integer minSalary;
+
+    @Min(value = 0, message = "Maximum salary cannot be negative")
+    private Integer maxSalary;
+
+    @Min(value = 0, message = "Minimum age cannot be negative")
+    private Integer minAge;
+
+    @Min(value = 0, message = "Maximum age cannot be negative")
+    private Integer maxAge;
+
+    private String title;
+
+    @Pattern(regexp = "(?i)salary|age", message = "Sort must be salary or age")
+    private String sort;
+
+    @Pattern(regexp = "(?i)asc|desc", message = "Order must be asc or desc")
+    private String order;
+
+    @Min(value = 0, message = "Offset cannot be negative")
+    private Integer offset;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 100, message = "Limit cannot be greater than 100")
+    private Integer limit;
+}
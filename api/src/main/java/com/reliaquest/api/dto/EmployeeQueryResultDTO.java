@@ -0,0 +1,20 @@
+package com.reliaquest.api.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeQueryResultDTO {
+    private long snapshotVersion;
+    private String plan;
+    private int offset;
+    private int limit;
+    private boolean hasMore;
+    private List<EmployeeResponseDTO> employees;
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.api.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryDistributionDTO {
+    private long count;
+    private double mean;
+    private long median;
+    private long p90;
+    private long p99;
+    private List<HistogramBucketDTO> histogram;
+}
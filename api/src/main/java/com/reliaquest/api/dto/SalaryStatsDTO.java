@@ -0,0 +1,18 @@
+package com.reliaquest.api.dto;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryStatsDTO {
+    private long snapshotVersion;
+    private long excludedNegativeSalaries;
+    private SalaryDistributionDTO overall;
+    private Map<String, SalaryDistributionDTO> byTitle;
+}
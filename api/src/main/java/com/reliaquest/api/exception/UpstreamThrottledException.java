@@ -0,0 +1,14 @@
+package com.reliaquest.api.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Upstream kept answering 429 Too Many Requests for as many attempts as the caller allowed.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class UpstreamThrottledException extends RuntimeException {
+    public UpstreamThrottledException(String message) {
+        super(message);
+    }
+}
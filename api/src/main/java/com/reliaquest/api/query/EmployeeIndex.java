@@ -0,0 +1,122 @@
+package com.reliaquest.api.query;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.stats.EmployeeColumns;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Secondary indexes over one {@link EmployeeSnapshot}: row ids sorted by salary and by age, and the rows of each title.
+ * Rows are positions in {@link EmployeeSnapshot#employees()}.
+ */
+final class EmployeeIndex {
+
+    final EmployeeSnapshot snapshot;
+    final EmployeeColumns columns;
+    final SortedIndex bySalary;
+    final SortedIndex byAge;
+    final int[][] rowsByTitle;
+    private final Map<String, Integer> titleIds = new HashMap<>();
+
+    private EmployeeIndex(EmployeeSnapshot snapshot, EmployeeColumns columns) {
+        this.snapshot = snapshot;
+        this.columns = columns;
+        this.bySalary = SortedIndex.of(columns.salaries());
+        this.byAge = SortedIndex.of(columns.ages());
+        this.rowsByTitle = postings(columns.titleIds(), columns.titles().size());
+        for (int titleId = 0; titleId < columns.titles().size(); titleId++) {
+            titleIds.put(columns.titles().get(titleId), titleId);
+        }
+    }
+
+    static EmployeeIndex of(EmployeeSnapshot snapshot) {
+        return new EmployeeIndex(snapshot, EmployeeColumns.of(snapshot));
+    }
+
+    int titleId(String title) {
+        return titleIds.getOrDefault(title, EmployeeColumns.MISSING);
+    }
+
+    private static int[][] postings(int[] titleIds, int titleCount) {
+        final var counts = new int[titleCount];
+        for (int titleId : titleIds) {
+            if (titleId != EmployeeColumns.MISSING) {
+                counts[titleId]++;
+            }
+        }
+        final var postings = new int[titleCount][];
+        for (int titleId = 0; titleId < titleCount; titleId++) {
+            postings[titleId] = new int[counts[titleId]];
+        }
+        Arrays.fill(counts, 0);
+        for (int row = 0; row < titleIds.length; row++) {
+            if (titleIds[row] != EmployeeColumns.MISSING) {
+                postings[titleIds[row]][counts[titleIds[row]]++] = row;
+            }
+        }
+        return postings;
+    }
+
+    /**
+     * Row ids ordered by key, then by row, followed by the rows without a key in row order; {@code keys[i]} is the key
+     * of {@code rows[i]} for the first {@code keys.length} rows.
+     */
+    record SortedIndex(int[] keys, int[] rows) {
+
+        static SortedIndex of(int[] values) {
+            final var packed = new long[values.length];
+            var keyed = 0;
+            for (int row = 0; row < values.length; row++) {
+                if (values[row] != EmployeeColumns.MISSING) {
+                    packed[keyed++] = pack(values[row], row);
+                }
+            }
+            Arrays.parallelSort(packed, 0, keyed);
+            final var keys = new int[keyed];
+            final var rows = new int[values.length];
+            for (int i = 0; i < keyed; i++) {
+                keys[i] = (int) (packed[i] >> 32);
+                rows[i] = (int) packed[i];
+            }
+            for (int row = 0, position = keyed; row < values.length; row++) {
+                if (values[row] == EmployeeColumns.MISSING) {
+                    rows[position++] = row;
+                }
+            }
+            return new SortedIndex(keys, rows);
+        }
+
+        int unkeyed() {
+            return rows.length - keys.length;
+        }
+
+        static long pack(int key, int row) {
+            return ((long) key << 32) | row;
+        }
+
+        /**
+         * Returns the first position whose key is at least {@code key}.
+         */
+        int lowerBound(int key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                final var middle = (low + high) >>> 1;
+                if (keys[middle] < key) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Returns the first position whose key is greater than {@code key}.
+         */
+        int upperBound(int key) {
+            return key == Integer.MAX_VALUE ? keys.length : lowerBound(key + 1);
+        }
+    }
+}
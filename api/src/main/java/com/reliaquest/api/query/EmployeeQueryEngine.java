@@ -0,0 +1,281 @@
+package com.reliaquest.api.query;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.dto.EmployeeQueryDTO;
+import com.reliaquest.api.dto.EmployeeQueryResultDTO;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.stats.EmployeeColumns;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evaluates {@link EmployeeQueryDTO} filters over an {@link EmployeeIndex} built once per snapshot version.
+ * <p>
+ * The planner picks the access path with the fewest candidate rows among the salary range, age range and title
+ * predicates, counted exactly from the indexes. If even that path would visit more than {@code index-selectivity} of
+ * all rows, it scans instead: in sort-key order when a sort is requested, otherwise in snapshot order. Candidates are
+ * checked against every predicate on the primitive columns. When the access path already yields rows in the requested
+ * order, evaluation stops as soon as the page is full; otherwise the matches are sorted by packed key and row id, or by
+ * row id alone when no sort is requested, so every plan returns unsorted results in snapshot order. Employees without
+ * the sort key come last in either order, by snapshot position.
+ */
+@Slf4j
+@Component
+public class EmployeeQueryEngine {
+
+    private final double indexSelectivity;
+    private final int defaultLimit;
+
+    private EmployeeIndex currentIndex;
+
+    public EmployeeQueryEngine(
+            @Value("${com.reliaquest.employee.api.query.index-selectivity:0.25}") double indexSelectivity,
+            @Value("${com.reliaquest.employee.api.query.default-limit:20}") int defaultLimit) {
+        this.indexSelectivity = indexSelectivity;
+        this.defaultLimit = defaultLimit;
+    }
+
+    public EmployeeQueryResultDTO execute(EmployeeSnapshot snapshot, EmployeeQueryDTO query) {
+        final var index = index(snapshot);
+        final var offset = query.getOffset() == null ? 0 : query.getOffset();
+        final var limit = query.getLimit() == null ? defaultLimit : query.getLimit();
+        final var filter = RowFilter.of(query, index);
+        final var sortKey =
+                query.getSort() == null ? null : SortKey.valueOf(query.getSort().toUpperCase(Locale.ROOT));
+        final var descending = "desc".equalsIgnoreCase(query.getOrder());
+        final var path = plan(index, filter, sortKey);
+        final var end = (int) Math.min(Integer.MAX_VALUE - 1L, (long) offset + limit);
+
+        final int[] rows;
+        final boolean hasMore;
+        if (path.orderedBy == sortKey) {
+            // Rows come out in the requested order, so one extra match tells whether another page exists.
+            final var matches = path.collect(filter, descending && sortKey != null, end + 1);
+            rows = page(matches, offset, end);
+            hasMore = matches.length > end;
+        } else if (sortKey == null) {
+            // A range index yields rows in key order; unsorted results keep snapshot order whichever path is used.
+            final var matches = path.collect(filter, false, Integer.MAX_VALUE);
+            Arrays.sort(matches);
+            rows = page(matches, offset, end);
+            hasMore = matches.length > end;
+        } else {
+            final var matches = path.collect(filter, false, Integer.MAX_VALUE);
+            final var keys = sortKey == SortKey.SALARY ? index.columns.salaries() : index.columns.ages();
+            final var sorted = sortRows(matches, keys, descending);
+            rows = page(sorted, offset, end);
+            hasMore = sorted.length > end;
+        }
+
+        final var employees = new ArrayList<EmployeeResponseDTO>(rows.length);
+        for (int row : rows) {
+            employees.add(index.snapshot.employees().get(row));
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Query {} on snapshot version {} used plan {}", query, index.snapshot.version(), path.name);
+        }
+        return EmployeeQueryResultDTO.builder()
+                .snapshotVersion(index.snapshot.version())
+                .plan(path.orderedBy == sortKey ? path.name : path.name + "+sort")
+                .offset(offset)
+                .limit(limit)
+                .hasMore(hasMore)
+                .employees(employees)
+                .build();
+    }
+
+    /**
+     * Builds the indexes for {@code snapshot} ahead of the first query against it.
+     */
+    public void prepare(EmployeeSnapshot snapshot) {
+        index(snapshot);
+    }
+
+    // A newer index than the caller's snapshot answers the query from newer data rather than rebuilding an old one.
+    private synchronized EmployeeIndex index(EmployeeSnapshot snapshot) {
+        if (currentIndex == null || currentIndex.snapshot.version() < snapshot.version()) {
+            final var started = System.nanoTime();
+            currentIndex = EmployeeIndex.of(snapshot);
+            log.debug(
+                    "Indexed {} employees for snapshot version {} in {} us",
+                    currentIndex.columns.size(),
+                    snapshot.version(),
+                    (System.nanoTime() - started) / 1_000);
+        }
+        return currentIndex;
+    }
+
+    private AccessPath plan(EmployeeIndex index, RowFilter filter, SortKey sortKey) {
+        if (filter.unsatisfiable()) {
+            return new AccessPath("empty", new int[0], 0, 0, 0, sortKey);
+        }
+        AccessPath best = null;
+        if (filter.titleId != RowFilter.ANY) {
+            final var rows = index.rowsByTitle[filter.titleId];
+            best = new AccessPath("title-index", rows, 0, rows.length, 0, null);
+        }
+        if (filter.hasSalaryRange()) {
+            best = cheaper(
+                    best, range("salary-index", index.bySalary, filter.minSalary, filter.maxSalary, SortKey.SALARY));
+        }
+        if (filter.hasAgeRange()) {
+            best = cheaper(best, range("age-index", index.byAge, filter.minAge, filter.maxAge, SortKey.AGE));
+        }
+        if (best != null && best.size() <= index.columns.size() * indexSelectivity) {
+            return best;
+        }
+        // Unbounded ranges cover the whole index, so a sorted scan can still stop early once the page is full.
+        if (sortKey == SortKey.SALARY) {
+            return range("salary-order-scan", index.bySalary, filter.minSalary, filter.maxSalary, SortKey.SALARY);
+        }
+        if (sortKey == SortKey.AGE) {
+            return range("age-order-scan", index.byAge, filter.minAge, filter.maxAge, SortKey.AGE);
+        }
+        return new AccessPath("scan", null, 0, index.columns.size(), 0, null);
+    }
+
+    private static AccessPath range(String name, EmployeeIndex.SortedIndex index, int min, int max, SortKey key) {
+        // Rows without the key can only match when the range does not constrain it.
+        final var unkeyed = min == RowFilter.ANY && max == Integer.MAX_VALUE ? index.unkeyed() : 0;
+        return new AccessPath(name, index.rows(), index.lowerBound(min), index.upperBound(max), unkeyed, key);
+    }
+
+    private static AccessPath cheaper(AccessPath current, AccessPath candidate) {
+        return current == null || candidate.size() < current.size() ? candidate : current;
+    }
+
+    private static int[] sortRows(int[] rows, int[] keys, boolean descending) {
+        final var packed = new long[rows.length];
+        var keyed = 0;
+        for (int row : rows) {
+            if (keys[row] != EmployeeColumns.MISSING) {
+                packed[keyed++] = EmployeeIndex.SortedIndex.pack(keys[row], row);
+            }
+        }
+        Arrays.sort(packed, 0, keyed);
+        final var sorted = new int[rows.length];
+        for (int i = 0; i < keyed; i++) {
+            sorted[descending ? keyed - 1 - i : i] = (int) packed[i];
+        }
+        var position = keyed;
+        for (int row : rows) {
+            if (keys[row] == EmployeeColumns.MISSING) {
+                sorted[position++] = row;
+            }
+        }
+        Arrays.sort(sorted, keyed, sorted.length);
+        return sorted;
+    }
+
+    private static int[] page(int[] rows, int offset, int end) {
+        if (offset >= rows.length) {
+            return new int[0];
+        }
+        return Arrays.copyOfRange(rows, offset, Math.min(rows.length, end));
+    }
+
+    private enum SortKey {
+        SALARY,
+        AGE
+    }
+
+    /**
+     * Rows {@code [from, to)} of {@code rows}, or of all rows in snapshot order when {@code rows} is {@code null},
+     * followed by the last {@code unkeyed} rows, which are never reversed.
+     */
+    private record AccessPath(String name, int[] rows, int from, int to, int unkeyed, SortKey orderedBy) {
+
+        int size() {
+            return to - from + unkeyed;
+        }
+
+        int[] collect(RowFilter filter, boolean reversed, int maxMatches) {
+            var matches = new int[Math.min(size(), 64)];
+            int count = 0;
+            for (int i = 0; i < size() && count < maxMatches; i++) {
+                final int position;
+                if (i >= to - from) {
+                    position = rows.length - unkeyed + i - (to - from);
+                } else {
+                    position = reversed ? to - 1 - i : from + i;
+                }
+                final var row = rows == null ? position : rows[position];
+                if (filter.matches(row)) {
+                    if (count == matches.length) {
+                        matches = Arrays.copyOf(matches, Math.min(size(), count * 2));
+                    }
+                    matches[count++] = row;
+                }
+            }
+            return count == matches.length ? matches : Arrays.copyOf(matches, count);
+        }
+    }
+
+    /**
+     * All predicates of a query, checked directly against the primitive columns.
+     */
+    private static final class RowFilter {
+        private static final int ANY = Integer.MIN_VALUE;
+
+        private final int[] salaries;
+        private final int[] ages;
+        private final int[] titleIds;
+        private final int minSalary;
+        private final int maxSalary;
+        private final int minAge;
+        private final int maxAge;
+        private final int titleId;
+        private final boolean salaryRange;
+        private final boolean ageRange;
+
+        private RowFilter(EmployeeColumns columns, EmployeeQueryDTO query, int titleId) {
+            this.salaries = columns.salaries();
+            this.ages = columns.ages();
+            this.titleIds = columns.titleIds();
+            this.minSalary = query.getMinSalary() == null ? ANY : query.getMinSalary();
+            this.maxSalary = query.getMaxSalary() == null ? Integer.MAX_VALUE : query.getMaxSalary();
+            this.minAge = query.getMinAge() == null ? ANY : query.getMinAge();
+            this.maxAge = query.getMaxAge() == null ? Integer.MAX_VALUE : query.getMaxAge();
+            this.titleId = titleId;
+            this.salaryRange = minSalary != ANY || maxSalary != Integer.MAX_VALUE;
+            this.ageRange = minAge != ANY || maxAge != Integer.MAX_VALUE;
+        }
+
+        static RowFilter of(EmployeeQueryDTO query, EmployeeIndex index) {
+            final var titleId = query.getTitle() == null ? ANY : index.titleId(query.getTitle());
+            return new RowFilter(index.columns, query, titleId);
+        }
+
+        boolean hasSalaryRange() {
+            return salaryRange;
+        }
+
+        boolean hasAgeRange() {
+            return ageRange;
+        }
+
+        boolean unsatisfiable() {
+            return titleId == EmployeeColumns.MISSING || minSalary > maxSalary || minAge > maxAge;
+        }
+
+        boolean matches(int row) {
+            if (salaryRange) {
+                final var salary = salaries[row];
+                if (salary == EmployeeColumns.MISSING || salary < minSalary || salary > maxSalary) {
+                    return false;
+                }
+            }
+            if (ageRange) {
+                final var age = ages[row];
+                if (age == EmployeeColumns.MISSING || age < minAge || age > maxAge) {
+                    return false;
+                }
+            }
+            return titleId == ANY || titleIds[row] == titleId;
+        }
+    }
+}
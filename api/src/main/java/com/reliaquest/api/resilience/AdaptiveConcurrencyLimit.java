@@ -0,0 +1,132 @@
+package com.reliaquest.api.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Concurrency limit for inbound requests that adapts to observed latency.
+ * <p>
+ * Each latency sample is compared with a slow-moving baseline. While latency stays within {@code rttTolerance} times
+ * the baseline the limit grows by roughly its square root per sample; once latency rises beyond that, the limit shrinks
+ * in proportion (by at most half per sample). Samples taken while fewer than half the permits are in use say nothing
+ * about capacity and are ignored. A {@link #release(Priority, long, boolean) dropped} request, one the service could
+ * not complete because its dependency was overloaded, cuts the limit by {@code backoffRatio}.
+ * <p>
+ * {@link Priority#CACHED} requests may use the whole limit, {@link Priority#UPSTREAM} ones only {@code upstreamShare}
+ * of it, so cheap requests are still admitted while upstream-bound ones are queueing. Only upstream-bound requests
+ * feed the latency baseline: cached ones take microseconds whatever the load on upstream, so mixing them in would pull
+ * the baseline far below any upstream call and make every upstream sample look like overload.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimit {
+
+    public enum Priority {
+        CACHED,
+        UPSTREAM
+    }
+
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+    // The baseline decays when latency drops well below it, so a past slow period does not keep the limit high.
+    private static final double BASELINE_RECOVERY = 0.95;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double upstreamShare;
+    private final double rttTolerance;
+    private final double backoffRatio;
+    private final double baselineDecay;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double baselineRttNanos;
+
+    public AdaptiveConcurrencyLimit(
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double upstreamShare,
+            double rttTolerance,
+            double backoffRatio,
+            int baselineWindow) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.upstreamShare = upstreamShare;
+        this.rttTolerance = rttTolerance;
+        this.backoffRatio = backoffRatio;
+        this.baselineDecay = 2.0 / (Math.max(1, baselineWindow) + 1);
+        this.limit = Math.min(Math.max(initialLimit, this.minLimit), this.maxLimit);
+    }
+
+    /**
+     * Takes a permit if the requests in flight are below the limit for {@code priority}.
+     */
+    public boolean tryAcquire(Priority priority) {
+        final var ceiling = ceiling(priority);
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= ceiling) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Returns a permit taken by {@link #tryAcquire(Priority)}.
+     *
+     * @param rttNanos how long the request took
+     * @param dropped whether the request failed because the service was overloaded
+     */
+    public void release(Priority priority, long rttNanos, boolean dropped) {
+        final var inFlightBefore = inFlight.getAndDecrement();
+        if (dropped) {
+            backOff();
+        } else if (priority == Priority.UPSTREAM && rttNanos > 0) {
+            onSample(rttNanos, inFlightBefore);
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private int ceiling(Priority priority) {
+        final var current = (int) limit;
+        return priority == Priority.CACHED ? current : Math.max(1, (int) (current * upstreamShare));
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightBefore) {
+        if (baselineRttNanos == 0) {
+            baselineRttNanos = rttNanos;
+            return;
+        }
+        baselineRttNanos += (rttNanos - baselineRttNanos) * baselineDecay;
+        if (baselineRttNanos > 2 * rttNanos) {
+            baselineRttNanos *= BASELINE_RECOVERY;
+        }
+        if (inFlightBefore < limit / 2) {
+            return;
+        }
+        final var gradient = Math.max(MIN_GRADIENT, Math.min(1.0, rttTolerance * baselineRttNanos / rttNanos));
+        final var target = limit * gradient + Math.sqrt(limit);
+        update(limit * (1 - SMOOTHING) + target * SMOOTHING);
+    }
+
+    private synchronized void backOff() {
+        update(limit * backoffRatio);
+    }
+
+    private void update(double newLimit) {
+        final var previous = (int) limit;
+        limit = Math.min(Math.max(newLimit, minLimit), maxLimit);
+        if ((int) limit != previous) {
+            log.debug("Concurrency limit changed from {} to {}", previous, (int) limit);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.reliaquest.api.resilience;
+
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.timing.RequestTimings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Runs upstream calls with timeouts and optional hedging derived from each operation's observed latency.
+ * <p>
+ * The timeout for an operation is {@code timeouts.multiplier} times its rolling {@code timeouts.percentile} latency,
+ * clamped to {@code [timeouts.min, timeouts.max]}; until enough samples exist it is {@code timeouts.max}. A hedged call
+ * sends a second, identical request once the first has been outstanding longer than the {@code hedging.percentile}
+ * latency, provided the caller's permit check allows it, and returns whichever response succeeds first.
+ * <p>
+ * Timed-out and losing requests cannot be aborted mid-read; their responses are discarded when they arrive. Until then
+ * they keep one of at most {@code maxInFlightCalls} threads, twice the upstream bulkhead so that every admitted call
+ * can hedge once. A call finding them all taken fails fast with {@link UpstreamUnavailableException} instead of adding
+ * yet another request to a backend that is not keeping up.
+ */
+@Slf4j
+@Component
+public class AdaptiveUpstreamExecutor {
+
+    private static final String METRIC_PREFIX = "employee.upstream.";
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final Settings settings;
+
+    @Autowired
+    public AdaptiveUpstreamExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${com.reliaquest.employee.api.timeouts.adaptive:true}") boolean adaptiveTimeouts,
+            @Value("${com.reliaquest.employee.api.timeouts.percentile:0.99}") double timeoutPercentile,
+            @Value("${com.reliaquest.employee.api.timeouts.multiplier:3}") double timeoutMultiplier,
+            @Value("${com.reliaquest.employee.api.timeouts.min:250ms}") Duration minTimeout,
+            @Value("${com.reliaquest.employee.api.timeouts.max:10s}") Duration maxTimeout,
+            @Value("${com.reliaquest.employee.api.timeouts.min-samples:20}") long minSamples,
+            @Value("${com.reliaquest.employee.api.hedging.enabled:false}") boolean hedging,
+            @Value("${com.reliaquest.employee.api.hedging.percentile:0.95}") double hedgePercentile,
+            @Value("${com.reliaquest.employee.api.hedging.min-delay:20ms}") Duration minHedgeDelay,
+            @Value("${com.reliaquest.employee.api.resilience.bulkhead.max-concurrent-calls:10}")
+                    int maxConcurrentCalls) {
+        this(
+                meterRegistry,
+                new Settings(
+                        adaptiveTimeouts,
+                        timeoutPercentile,
+                        timeoutMultiplier,
+                        minTimeout.toNanos(),
+                        maxTimeout.toNanos(),
+                        minSamples,
+                        hedging,
+                        hedgePercentile,
+                        minHedgeDelay.toNanos(),
+                        2 * maxConcurrentCalls));
+    }
+
+    public AdaptiveUpstreamExecutor(MeterRegistry meterRegistry, Settings settings) {
+        this.meterRegistry = meterRegistry;
+        this.settings = settings;
+        final var threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                0, settings.maxInFlightCalls(), 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+                    final var thread = new Thread(runnable, "upstream-call-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Executes {@code call} for {@code operation}.
+     *
+     * @param hedgePermit checked before sending a hedge request, or {@code null} if the call must not be hedged
+     */
+    public <T> T execute(String operation, Supplier<T> call, BooleanSupplier hedgePermit) {
+        final var hedge = settings.hedging() && hedgePermit != null;
+        if (!settings.adaptiveTimeouts() && !hedge) {
+            return timed(operation, call).get();
+        }
+
+        final var started = System.nanoTime();
+        final var timeoutNanos = timeoutNanos(operation);
+        final var primary = submit(operation, call);
+        if (primary == null) {
+            Counter.builder(METRIC_PREFIX + "calls.rejected")
+                    .tag("operation", operation)
+                    .tag("reason", "in_flight_full")
+                    .register(meterRegistry)
+                    .increment();
+            throw new UpstreamUnavailableException("Too many upstream calls still in flight");
+        }
+        try {
+            final var hedgeDelayNanos = hedge ? hedgeDelayNanos(operation) : Long.MAX_VALUE;
+            if (hedgeDelayNanos < timeoutNanos) {
+                try {
+                    return primary.get(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    final var secondary = hedgePermit.getAsBoolean() ? submit(operation, call) : null;
+                    if (secondary != null) {
+                        countHedge(operation, "issued");
+                        final var remaining = timeoutNanos - (System.nanoTime() - started);
+                        return firstSuccessful(primary, secondary).get(remaining, TimeUnit.NANOSECONDS);
+                    }
+                    countHedge(operation, "skipped");
+                }
+            }
+            return primary.get(timeoutNanos - (System.nanoTime() - started), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            primary.cancel(true);
+            Counter.builder(METRIC_PREFIX + "timeouts")
+                    .tag("operation", operation)
+                    .register(meterRegistry)
+                    .increment();
+            throw new ResourceAccessException("Upstream call for " + operation + " timed out after "
+                    + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            primary.cancel(true);
+            throw new ResourceAccessException("Interrupted while waiting for upstream call for " + operation);
+        }
+    }
+
+    long timeoutNanos(String operation) {
+        if (!settings.adaptiveTimeouts()) {
+            return settings.maxTimeoutNanos();
+        }
+        final var percentile =
+                histogram(operation).percentileNanos(settings.timeoutPercentile(), settings.minSamples());
+        if (percentile.isEmpty()) {
+            return settings.maxTimeoutNanos();
+        }
+        final var timeout = (long) (percentile.getAsLong() * settings.timeoutMultiplier());
+        return Math.min(Math.max(timeout, settings.minTimeoutNanos()), settings.maxTimeoutNanos());
+    }
+
+    private long hedgeDelayNanos(String operation) {
+        final var percentile = histogram(operation).percentileNanos(settings.hedgePercentile(), settings.minSamples());
+        return percentile.isEmpty() ? Long.MAX_VALUE : Math.max(percentile.getAsLong(), settings.minHedgeDelayNanos());
+    }
+
+    /*
+     * Returns null when every thread is busy with a call, possibly one that already timed out.
+     */
+    private <T> CompletableFuture<T> submit(String operation, Supplier<T> call) {
+        try {
+            return CompletableFuture.supplyAsync(timed(operation, call), executor);
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    private <T> Supplier<T> timed(String operation, Supplier<T> call) {
+        // Calls may run on the executor, where they still count towards the timings of the request waiting on them.
+        return RequestTimings.propagate(() -> {
+            final var started = System.nanoTime();
+            try {
+                final var result = call.get();
+                histogram(operation).record(System.nanoTime() - started);
+                return result;
+            } catch (HttpStatusCodeException e) {
+                // The server answered, so the round trip is still a valid latency sample.
+                histogram(operation).record(System.nanoTime() - started);
+                throw e;
+            }
+        });
+    }
+
+    private LatencyHistogram histogram(String operation) {
+        return histograms.computeIfAbsent(
+                operation, ignored -> new LatencyHistogram(Duration.ofMinutes(1), System::nanoTime));
+    }
+
+    private void countHedge(String operation, String outcome) {
+        log.debug("Hedge {} for upstream operation {}", outcome, operation);
+        Counter.builder(METRIC_PREFIX + "hedges")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /*
+     * Completes with the first future to succeed, or with the first failure once every future has failed.
+     */
+    private static <T> CompletableFuture<T> firstSuccessful(CompletableFuture<T> first, CompletableFuture<T> second) {
+        final var result = new CompletableFuture<T>();
+        final var failures = new AtomicInteger();
+        final var firstFailure = new AtomicReference<Throwable>();
+        for (CompletableFuture<T> future : List.of(first, second)) {
+            future.whenComplete((value, failure) -> {
+                if (failure == null) {
+                    result.complete(value);
+                    return;
+                }
+                firstFailure.compareAndSet(null, failure);
+                if (failures.incrementAndGet() == 2) {
+                    result.completeExceptionally(firstFailure.get());
+                }
+            });
+        }
+        return result;
+    }
+
+    public record Settings(
+            boolean adaptiveTimeouts,
+            double timeoutPercentile,
+            double timeoutMultiplier,
+            long minTimeoutNanos,
+            long maxTimeoutNanos,
+            long minSamples,
+            boolean hedging,
+            double hedgePercentile,
+            long minHedgeDelayNanos,
+            int maxInFlightCalls) {}
+}
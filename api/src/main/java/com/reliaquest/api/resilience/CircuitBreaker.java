@@ -0,0 +1,96 @@
+package com.reliaquest.api.resilience;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Consecutive-failure circuit breaker for a single upstream operation.
+ * <p>
+ * After {@code failureThreshold} consecutive failures the circuit opens and rejects calls for {@code openDuration}.
+ * It then lets up to {@code halfOpenTrialCalls} trial calls through; a successful trial closes the circuit, a failed
+ * one opens it again.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    @Getter
+    private final String name;
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final int halfOpenTrialCalls;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private int trialCalls;
+
+    public CircuitBreaker(
+            String name, int failureThreshold, Duration openDuration, int halfOpenTrialCalls, LongSupplier nanoClock) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenTrialCalls = halfOpenTrialCalls;
+        this.nanoClock = nanoClock;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Returns whether a call may proceed. Every permitted call must be followed by {@link #onSuccess()},
+     * {@link #onFailure()} or {@link #releasePermission()}.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+            trialCalls = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialCalls >= halfOpenTrialCalls) {
+                return false;
+            }
+            trialCalls++;
+        }
+        return true;
+    }
+
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && trialCalls > 0) {
+            trialCalls--;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            openedAt = nanoClock.getAsLong();
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State next) {
+        log.info("Upstream circuit '{}' transitioning from {} to {}", name, state, next);
+        state = next;
+    }
+}
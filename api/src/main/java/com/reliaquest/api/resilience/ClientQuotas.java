@@ -0,0 +1,169 @@
+package com.reliaquest.api.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-client request quotas: each client may spend {@code costPerWindow} cost units per fixed window.
+ * <p>
+ * Clients are spread over lock-striped, access-ordered maps that together track at most {@code maxClients} clients;
+ * the least recently seen client of a full stripe is evicted, so unknown or spoofed client keys cannot grow memory
+ * without bound. An evicted client simply starts a fresh window. Spending within a window is a lock-free
+ * compare-and-set on one word holding the window number and the units used.
+ * <p>
+ * Outcomes are counted per client only for the fixed {@code metricClients}; all other clients share the
+ * {@value #OTHER_CLIENTS} tag, so client keys taken from request headers never become meter tags.
+ */
+@Slf4j
+public class ClientQuotas {
+
+    static final String METRIC_NAME = "employee.ingress.client.requests";
+    static final String OTHER_CLIENTS = "other";
+    private static final int STRIPES = 16;
+
+    private final int costPerWindow;
+    private final long windowNanos;
+    private final int maxClientsPerStripe;
+    private final LongSupplier nanoClock;
+    private final long origin;
+    private final Map<String, Outcomes> metricClients = new HashMap<>();
+    private final Outcomes otherClients;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public ClientQuotas(
+            MeterRegistry meterRegistry,
+            int costPerWindow,
+            Duration window,
+            int maxClients,
+            Collection<String> metricClients,
+            LongSupplier nanoClock) {
+        for (String client : metricClients) {
+            this.metricClients.put(client, new Outcomes(meterRegistry, client));
+        }
+        this.otherClients = new Outcomes(meterRegistry, OTHER_CLIENTS);
+        this.costPerWindow = costPerWindow;
+        this.windowNanos = window.toNanos();
+        this.maxClientsPerStripe = Math.max(1, maxClients / STRIPES);
+        this.nanoClock = nanoClock;
+        this.origin = nanoClock.getAsLong();
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Spends {@code cost} units of {@code client}'s quota for the current window if enough are left.
+     */
+    public boolean tryConsume(String client, int cost) {
+        final var quota = quota(client);
+        final var allowed = quota.tryConsume(currentWindow(), cost);
+        (allowed ? quota.outcomes.allowed : quota.outcomes.rejected).increment();
+        return allowed;
+    }
+
+    /**
+     * Returns the units {@code client} has left in the current window.
+     */
+    public int remaining(String client) {
+        return Math.max(0, costPerWindow - quota(client).used(currentWindow()));
+    }
+
+    public long nanosUntilReset() {
+        return windowNanos - (nanoClock.getAsLong() - origin) % windowNanos;
+    }
+
+    public int trackedClients() {
+        int tracked = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                tracked += stripe.size();
+            }
+        }
+        return tracked;
+    }
+
+    private long currentWindow() {
+        return (nanoClock.getAsLong() - origin) / windowNanos;
+    }
+
+    private Quota quota(String client) {
+        final var stripe = stripes[Math.floorMod(mix(client.hashCode()), STRIPES)];
+        synchronized (stripe) {
+            return stripe.computeIfAbsent(client, Quota::new);
+        }
+    }
+
+    private static int usedIn(long state, long window) {
+        return (state >>> 32) == (window & 0xFFFFFFFFL) ? (int) state : 0;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class Stripe extends LinkedHashMap<String, Quota> {
+
+        private Stripe() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Quota> eldest) {
+            if (size() <= maxClientsPerStripe) {
+                return false;
+            }
+            log.debug("Evicting rate limit state of client {}", eldest.getKey());
+            return true;
+        }
+    }
+
+    private final class Quota {
+        // Window number in the high 32 bits, units used in that window in the low 32 bits.
+        private final AtomicLong state = new AtomicLong();
+        private final Outcomes outcomes;
+
+        private Quota(String client) {
+            this.outcomes = metricClients.getOrDefault(client, otherClients);
+        }
+
+        private boolean tryConsume(long window, int cost) {
+            while (true) {
+                final var current = state.get();
+                final var used = usedIn(current, window);
+                if (used + cost > costPerWindow) {
+                    return false;
+                }
+                if (state.compareAndSet(current, ((window & 0xFFFFFFFFL) << 32) | (used + cost))) {
+                    return true;
+                }
+            }
+        }
+
+        private int used(long window) {
+            return usedIn(state.get(), window);
+        }
+    }
+
+    private record Outcomes(Counter allowed, Counter rejected) {
+
+        private Outcomes(MeterRegistry meterRegistry, String client) {
+            this(counter(meterRegistry, client, "allowed"), counter(meterRegistry, client, "rejected"));
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String client, String outcome) {
+            return Counter.builder(METRIC_NAME)
+                    .description("Inbound requests per client and quota outcome")
+                    .tag("client", client)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
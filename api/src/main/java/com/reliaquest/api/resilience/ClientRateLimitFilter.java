@@ -0,0 +1,133 @@
+package com.reliaquest.api.resilience;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Enforces {@link ClientQuotas} on the employee endpoints, so one noisy client cannot use up the upstream request
+ * budget shared by everyone.
+ * <p>
+ * Clients are identified by the {@code client-header} request header, or by remote address when it is absent. Each
+ * request costs units according to its endpoint: listing and searching employees fetch the whole list upstream and
+ * cost {@code costs.list}, lookups by id cost {@code costs.get}, creates and deletes (queued or not)
+ * {@code costs.write}, and requests served from the employee snapshot {@code costs.snapshot}. Requests over quota are
+ * answered with 429 and {@code Retry-After} until the window resets.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        prefix = "com.reliaquest.employee.api.client-rate-limit",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+// Ahead of the concurrency limit, so requests over quota never take a concurrency permit.
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class ClientRateLimitFilter extends OncePerRequestFilter {
+
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    private static final String BASE_PATH = "/api/v1/employee";
+    private static final Pattern ID_PATH = Pattern.compile("/[0-9a-fA-F-]{36}");
+    private static final int MAX_CLIENT_KEY_LENGTH = 64;
+
+    private final ClientQuotas quotas;
+    private final String clientHeader;
+    private final Costs costs;
+
+    @Autowired
+    public ClientRateLimitFilter(
+            MeterRegistry meterRegistry,
+            @Value("${com.reliaquest.employee.api.client-rate-limit.client-header:X-Client-Id}") String clientHeader,
+            @Value("${com.reliaquest.employee.api.client-rate-limit.cost-per-window:300}") int costPerWindow,
+            @Value("${com.reliaquest.employee.api.client-rate-limit.window:1m}") Duration window,
+            @Value("${com.reliaquest.employee.api.client-rate-limit.max-clients:10000}") int maxClients,
+            @Value("${com.reliaquest.employee.api.client-rate-limit.metric-clients:}") List<String> metricClients,
+            @Value("${com.reliaquest.employee.api.client-rate-limit.costs.list:5}") int listCost,
+            @Value("${com.reliaquest.employee.api.client-rate-limit.costs.get:1}") int getCost,
+            @Value("${com.reliaquest.employee.api.client-rate-limit.costs.write:2}") int writeCost,
+            @Value("${com.reliaquest.employee.api.client-rate-limit.costs.snapshot:1}") int snapshotCost) {
+        this(
+                new ClientQuotas(meterRegistry, costPerWindow, window, maxClients, metricClients, System::nanoTime),
+                clientHeader,
+                new Costs(listCost, getCost, writeCost, snapshotCost));
+        Gauge.builder("employee.ingress.client.tracked", quotas, ClientQuotas::trackedClients)
+                .description("Clients whose request quota is currently tracked")
+                .register(meterRegistry);
+    }
+
+    public ClientRateLimitFilter(ClientQuotas quotas, String clientHeader, Costs costs) {
+        this.quotas = quotas;
+        this.clientHeader = clientHeader;
+        this.costs = costs;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !path(request).startsWith(BASE_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final var client = client(request);
+        if (!quotas.tryConsume(client, cost(request))) {
+            log.debug("Client {} is over its quota for {} {}", client, request.getMethod(), path(request));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            final var retryAfterMillis = TimeUnit.NANOSECONDS.toMillis(quotas.nanosUntilReset());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfterMillis + 999) / 1000)));
+            response.setHeader(REMAINING_HEADER, String.valueOf(quotas.remaining(client)));
+            return;
+        }
+        response.setHeader(REMAINING_HEADER, String.valueOf(quotas.remaining(client)));
+        chain.doFilter(request, response);
+    }
+
+    private String client(HttpServletRequest request) {
+        final var header = request.getHeader(clientHeader);
+        final var client = header == null || header.isBlank() ? request.getRemoteAddr() : header.trim();
+        return client.length() > MAX_CLIENT_KEY_LENGTH ? client.substring(0, MAX_CLIENT_KEY_LENGTH) : client;
+    }
+
+    int cost(HttpServletRequest request) {
+        final var subPath = path(request).substring(BASE_PATH.length());
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return costs.write();
+        }
+        if (subPath.isEmpty()
+                || subPath.equals("/")
+                || subPath.startsWith("/search/")
+                || subPath.equals("/highestSalary")
+                || subPath.equals("/topTenHighestEarningEmployeeNames")) {
+            return costs.list();
+        }
+        if (ID_PATH.matcher(subPath).matches()) {
+            return costs.get();
+        }
+        return costs.snapshot();
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    public record Costs(int list, int get, int write, int snapshot) {}
+}
@@ -0,0 +1,166 @@
+package com.reliaquest.api.resilience;
+
+import com.reliaquest.api.cache.EmployeeViewsCache;
+import com.reliaquest.api.resilience.AdaptiveConcurrencyLimit.Priority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Admission control for the employee endpoints, backed by an {@link AdaptiveConcurrencyLimit}.
+ * <p>
+ * Requests beyond the limit are rejected immediately with 503 and {@code Retry-After} instead of queueing in the
+ * servlet container behind slow upstream calls. Reads count as {@link Priority#CACHED} while background refresh keeps
+ * precomputed {@link EmployeeViewsCache views}, which answer them without an upstream call, except reads of an id the
+ * views do not hold; requests to the create job queue are cached as well. Everything else waits on the mock server and
+ * counts as {@link Priority#UPSTREAM}. Upstream-bound requests answered with 429, 503 or 504 are reported as dropped;
+ * cached ones are not, as their failures say nothing about upstream capacity.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        prefix = "com.reliaquest.employee.api.concurrency-limit",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+// After the encoding and observation filters, so rejected requests still show up in the http.server.requests metrics.
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String METRIC_PREFIX = "employee.ingress.concurrency.";
+    private static final String BASE_PATH = "/api/v1/employee";
+    private static final String JOBS_PATH = BASE_PATH + "/jobs";
+
+    private final EmployeeViewsCache viewsCache;
+    private final AdaptiveConcurrencyLimit limit;
+    private final String retryAfterSeconds;
+    private final Map<Priority, Counter> rejections = new EnumMap<>(Priority.class);
+
+    @Autowired
+    public ConcurrencyLimitFilter(
+            MeterRegistry meterRegistry,
+            EmployeeViewsCache viewsCache,
+            @Value("${com.reliaquest.employee.api.concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${com.reliaquest.employee.api.concurrency-limit.min-limit:4}") int minLimit,
+            @Value("${com.reliaquest.employee.api.concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${com.reliaquest.employee.api.concurrency-limit.upstream-share:0.75}") double upstreamShare,
+            @Value("${com.reliaquest.employee.api.concurrency-limit.rtt-tolerance:2}") double rttTolerance,
+            @Value("${com.reliaquest.employee.api.concurrency-limit.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${com.reliaquest.employee.api.concurrency-limit.baseline-window:600}") int baselineWindow,
+            @Value("${com.reliaquest.employee.api.concurrency-limit.retry-after:1s}") Duration retryAfter) {
+        this(
+                meterRegistry,
+                viewsCache,
+                new AdaptiveConcurrencyLimit(
+                        initialLimit, minLimit, maxLimit, upstreamShare, rttTolerance, backoffRatio, baselineWindow),
+                retryAfter);
+    }
+
+    public ConcurrencyLimitFilter(
+            MeterRegistry meterRegistry,
+            EmployeeViewsCache viewsCache,
+            AdaptiveConcurrencyLimit limit,
+            Duration retryAfter) {
+        this.viewsCache = viewsCache;
+        this.limit = limit;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000));
+        Gauge.builder(METRIC_PREFIX + "limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("Current adaptive concurrency limit for inbound requests")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "in-flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("Inbound requests currently being processed")
+                .register(meterRegistry);
+        for (Priority priority : Priority.values()) {
+            rejections.put(
+                    priority,
+                    Counter.builder(METRIC_PREFIX + "rejected")
+                            .tag("priority", priority.name().toLowerCase())
+                            .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !path(request).startsWith(BASE_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final var priority = priority(request);
+        if (!limit.tryAcquire(priority)) {
+            rejections.get(priority).increment();
+            log.debug("Rejected {} {} over concurrency limit {}", request.getMethod(), path(request), limit.getLimit());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            return;
+        }
+        final var started = System.nanoTime();
+        var dropped = false;
+        try {
+            chain.doFilter(request, response);
+            dropped = priority == Priority.UPSTREAM && isOverloadStatus(response.getStatus());
+        } finally {
+            limit.release(priority, System.nanoTime() - started, dropped);
+        }
+    }
+
+    Priority priority(HttpServletRequest request) {
+        final var path = path(request);
+        if (path.startsWith(JOBS_PATH)) {
+            return Priority.CACHED;
+        }
+        if (!HttpMethod.GET.matches(request.getMethod()) || viewsCache.current().isEmpty()) {
+            return Priority.UPSTREAM;
+        }
+        final var id = employeeId(path);
+        // A read by id is answered from the views only if they hold the employee or know it was deleted.
+        return id == null || viewsCache.findById(id).isPresent() || viewsCache.isDeleted(id)
+                ? Priority.CACHED
+                : Priority.UPSTREAM;
+    }
+
+    /*
+     * The id of a read by id, /api/v1/employee/{id}, or null for any other path.
+     */
+    private static UUID employeeId(String path) {
+        if (path.length() != BASE_PATH.length() + 37 || path.charAt(BASE_PATH.length()) != '/') {
+            return null;
+        }
+        try {
+            return UUID.fromString(path.substring(BASE_PATH.length() + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static boolean isOverloadStatus(int status) {
+        return status == HttpStatus.TOO_MANY_REQUESTS.value()
+                || status == HttpStatus.SERVICE_UNAVAILABLE.value()
+                || status == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+}
@@ -0,0 +1,92 @@
+package com.reliaquest.api.resilience;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Rolling latency histogram over a fixed time window.
+ * <p>
+ * Latencies are counted in microseconds in log-linear buckets (eight sub-buckets per power of two, so any reported
+ * percentile is within 12.5% of the true value). The window is split into {@value #SLICES} slices that are recycled
+ * as time moves on, so old samples age out without per-sample bookkeeping.
+ */
+public class LatencyHistogram {
+
+    private static final int SLICES = 6;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 36; // 2^36 us is about 19 hours
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final long sliceNanos;
+    private final LongSupplier nanoClock;
+    private final long[][] counts = new long[SLICES][BUCKETS];
+    private final long[] sliceIds = new long[SLICES];
+
+    public LatencyHistogram(Duration window, LongSupplier nanoClock) {
+        this.sliceNanos = Math.max(1, window.toNanos() / SLICES);
+        this.nanoClock = nanoClock;
+        Arrays.fill(sliceIds, Long.MIN_VALUE);
+    }
+
+    public synchronized void record(long latencyNanos) {
+        final var sliceId = nanoClock.getAsLong() / sliceNanos;
+        final var slice = (int) Math.floorMod(sliceId, (long) SLICES);
+        if (sliceIds[slice] != sliceId) {
+            Arrays.fill(counts[slice], 0);
+            sliceIds[slice] = sliceId;
+        }
+        counts[slice][bucketOf(TimeUnit.NANOSECONDS.toMicros(Math.max(0, latencyNanos)))]++;
+    }
+
+    /**
+     * Returns the latency at {@code quantile} (0 to 1) over the window, or empty if fewer than {@code minSamples}
+     * latencies were recorded.
+     */
+    public synchronized OptionalLong percentileNanos(double quantile, long minSamples) {
+        final var oldestSliceId = nanoClock.getAsLong() / sliceNanos - SLICES + 1;
+        final var merged = new long[BUCKETS];
+        long total = 0;
+        for (int slice = 0; slice < SLICES; slice++) {
+            if (sliceIds[slice] >= oldestSliceId) {
+                for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                    merged[bucket] += counts[slice][bucket];
+                    total += counts[slice][bucket];
+                }
+            }
+        }
+        if (total == 0 || total < minSamples) {
+            return OptionalLong.empty();
+        }
+        final var target = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += merged[bucket];
+            if (seen >= target) {
+                return OptionalLong.of(TimeUnit.MICROSECONDS.toNanos(upperBound(bucket)));
+            }
+        }
+        return OptionalLong.of(TimeUnit.MICROSECONDS.toNanos(upperBound(BUCKETS - 1)));
+    }
+
+    static int bucketOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        final var exponent = 63 - Long.numberOfLeadingZeros(micros);
+        final var subBucket = (int) ((micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return Math.min((exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket, BUCKETS - 1);
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final var exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        final var subBucket = bucket % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
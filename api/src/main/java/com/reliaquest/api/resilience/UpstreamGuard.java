@@ -0,0 +1,127 @@
+package com.reliaquest.api.resilience;
+
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Protects calls to the mock employee server with a {@link CircuitBreaker} per upstream operation and a bulkhead
+ * capping concurrent upstream calls across all operations.
+ * <p>
+ * 429 responses, 5xx responses and I/O errors count as failures; other client errors mean the server is healthy.
+ * Rejected calls fail fast with {@link UpstreamUnavailableException}.
+ */
+@Slf4j
+@Component
+public class UpstreamGuard {
+
+    private static final String METRIC_PREFIX = "employee.upstream.";
+
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final Semaphore bulkhead;
+    private final long bulkheadMaxWaitNanos;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final int halfOpenTrialCalls;
+    private final MeterRegistry meterRegistry;
+
+    public UpstreamGuard(
+            MeterRegistry meterRegistry,
+            @Value("${com.reliaquest.employee.api.resilience.circuit-breaker.failure-threshold:3}")
+                    int failureThreshold,
+            @Value("${com.reliaquest.employee.api.resilience.circuit-breaker.open-duration:30s}") Duration openDuration,
+            @Value("${com.reliaquest.employee.api.resilience.circuit-breaker.half-open-trial-calls:1}")
+                    int halfOpenTrialCalls,
+            @Value("${com.reliaquest.employee.api.resilience.bulkhead.max-concurrent-calls:10}") int maxConcurrentCalls,
+            @Value("${com.reliaquest.employee.api.resilience.bulkhead.max-wait:500ms}") Duration bulkheadMaxWait) {
+        this.meterRegistry = meterRegistry;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.halfOpenTrialCalls = halfOpenTrialCalls;
+        this.bulkhead = new Semaphore(maxConcurrentCalls, true);
+        this.bulkheadMaxWaitNanos = bulkheadMaxWait.toNanos();
+        Gauge.builder(METRIC_PREFIX + "bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .description("Upstream calls that can still start without waiting")
+                .register(meterRegistry);
+    }
+
+    public <T> T call(String operation, Supplier<T> call) {
+        final var breaker = breakers.computeIfAbsent(operation, this::newBreaker);
+        if (!breaker.tryAcquirePermission()) {
+            throw reject(operation, "circuit_open", "Upstream circuit for " + operation + " is open");
+        }
+        if (!enterBulkhead()) {
+            breaker.releasePermission();
+            throw reject(operation, "bulkhead_full", "Too many concurrent upstream calls");
+        }
+        try {
+            final var result = call.get();
+            breaker.onSuccess();
+            return result;
+        } catch (HttpStatusCodeException e) {
+            if (e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()
+                    || e.getStatusCode().is5xxServerError()) {
+                breaker.onFailure();
+            } else {
+                breaker.onSuccess();
+            }
+            throw e;
+        } catch (ResourceAccessException e) {
+            breaker.onFailure();
+            throw e;
+        } catch (RuntimeException e) {
+            breaker.releasePermission();
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public CircuitBreaker.State getState(String operation) {
+        final var breaker = breakers.get(operation);
+        return breaker == null ? CircuitBreaker.State.CLOSED : breaker.getState();
+    }
+
+    private boolean enterBulkhead() {
+        try {
+            return bulkhead.tryAcquire(bulkheadMaxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private UpstreamUnavailableException reject(String operation, String reason, String message) {
+        log.warn("Rejecting upstream call for {}: {}", operation, reason);
+        Counter.builder(METRIC_PREFIX + "calls.rejected")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        return new UpstreamUnavailableException(message);
+    }
+
+    private CircuitBreaker newBreaker(String operation) {
+        final var breaker =
+                new CircuitBreaker(operation, failureThreshold, openDuration, halfOpenTrialCalls, System::nanoTime);
+        Gauge.builder(METRIC_PREFIX + "circuit.state", breaker, b -> b.getState()
+                        .ordinal())
+                .description("Circuit state: 0 closed, 1 half-open, 2 open")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        return breaker;
+    }
+}
@@ -0,0 +1,103 @@
+package com.reliaquest.api.search;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import java.text.Normalizer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Name autocompletion over an {@link EmployeeNameTrie} built once per snapshot version.
+ * <p>
+ * Names are normalized to lower case without accents or punctuation, and every word start is indexed, so "smi" finds
+ * "John Smith". Matches are ranked by salary, highest first.
+ */
+@Slf4j
+@Component
+public class EmployeeAutocompleter {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final int maxLimit;
+
+    private Index index;
+
+    public EmployeeAutocompleter(@Value("${com.reliaquest.employee.api.autocomplete.max-limit:10}") int maxLimit) {
+        this.maxLimit = Math.max(1, maxLimit);
+    }
+
+    public List<EmployeeResponseDTO> complete(EmployeeSnapshot snapshot, String prefix, int limit) {
+        final var normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        final var current = index(snapshot);
+        final var rows = current.trie.top(normalized);
+        return IntStream.of(rows)
+                .limit(Math.min(limit, maxLimit))
+                .mapToObj(current.snapshot.employees()::get)
+                .toList();
+    }
+
+    /**
+     * Builds the name trie for {@code snapshot} ahead of the first lookup against it.
+     */
+    public void prepare(EmployeeSnapshot snapshot) {
+        index(snapshot);
+    }
+
+    // A trie of a newer snapshot than the caller's is still a valid answer.
+    private synchronized Index index(EmployeeSnapshot snapshot) {
+        if (index == null || index.snapshot.version() < snapshot.version()) {
+            final var started = System.nanoTime();
+            index = new Index(snapshot, build(snapshot.employees()));
+            log.debug(
+                    "Built name trie for {} employees of snapshot version {} in {} ms",
+                    snapshot.employees().size(),
+                    snapshot.version(),
+                    (System.nanoTime() - started) / 1_000_000);
+        }
+        return index;
+    }
+
+    private EmployeeNameTrie build(List<EmployeeResponseDTO> employees) {
+        final var trie = new EmployeeNameTrie(maxLimit);
+        final var ranked = IntStream.range(0, employees.size())
+                .boxed()
+                .sorted(Comparator.comparing(
+                        (Integer row) -> employees.get(row).getEmployeeSalary(),
+                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        for (int row : ranked) {
+            final var name = normalize(employees.get(row).getEmployeeName());
+            for (int start = 0; start < name.length(); start++) {
+                if (start == 0 || name.charAt(start - 1) == ' ') {
+                    trie.insert(name.substring(start), row);
+                }
+            }
+        }
+        return trie;
+    }
+
+    static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        final var decomposed =
+                MARKS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS
+                .matcher(decomposed.toLowerCase(Locale.ROOT))
+                .replaceAll(" ")
+                .trim();
+    }
+
+    private record Index(EmployeeSnapshot snapshot, EmployeeNameTrie trie) {}
+}
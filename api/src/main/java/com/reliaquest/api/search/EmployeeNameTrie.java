@@ -0,0 +1,126 @@
+package com.reliaquest.api.search;
+
+import java.util.Arrays;
+
+/**
+ * Radix trie over normalized employee names. Every node keeps the rows of the best {@code topK} employees below it, so
+ * a lookup costs one walk down the prefix and no traversal of the subtree.
+ * <p>
+ * Rows must be inserted in ranking order; a node keeps the first {@code topK} distinct rows it sees.
+ */
+final class EmployeeNameTrie {
+
+    private static final int[] NO_ROWS = new int[0];
+
+    private final int topK;
+    private final Node root = new Node("");
+
+    EmployeeNameTrie(int topK) {
+        this.topK = topK;
+    }
+
+    void insert(String key, int row) {
+        var node = root;
+        int position = 0;
+        while (position < key.length()) {
+            var child = node.child(key.charAt(position));
+            if (child == null) {
+                final var leaf = new Node(key.substring(position));
+                offer(leaf, row);
+                node.addChild(leaf);
+                return;
+            }
+            final var common = commonPrefix(child.label, key, position);
+            if (common < child.label.length()) {
+                child = split(node, child, common);
+            }
+            offer(child, row);
+            node = child;
+            position += common;
+        }
+    }
+
+    /**
+     * Returns the top rows of all keys starting with {@code prefix}, best first.
+     */
+    int[] top(String prefix) {
+        var node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            final var child = node.child(prefix.charAt(position));
+            if (child == null) {
+                return NO_ROWS;
+            }
+            final var common = commonPrefix(child.label, prefix, position);
+            if (position + common == prefix.length()) {
+                return Arrays.copyOf(child.top, child.topSize);
+            }
+            if (common < child.label.length()) {
+                return NO_ROWS;
+            }
+            node = child;
+            position += common;
+        }
+        return Arrays.copyOf(node.top, node.topSize);
+    }
+
+    private void offer(Node node, int row) {
+        if (node.topSize == topK || (node.topSize > 0 && node.top[node.topSize - 1] == row)) {
+            return;
+        }
+        if (node.topSize == node.top.length) {
+            node.top = Arrays.copyOf(node.top, Math.min(topK, Math.max(1, node.topSize * 2)));
+        }
+        node.top[node.topSize++] = row;
+    }
+
+    private static Node split(Node parent, Node child, int length) {
+        final var middle = new Node(child.label.substring(0, length));
+        middle.top = Arrays.copyOf(child.top, child.topSize);
+        middle.topSize = child.topSize;
+        child.label = child.label.substring(length);
+        middle.addChild(child);
+        parent.replaceChild(middle);
+        return middle;
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        final var max = Math.min(label.length(), key.length() - offset);
+        int length = 0;
+        while (length < max && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static final class Node {
+        private String label;
+        private char[] firstChars = new char[0];
+        private Node[] children = new Node[0];
+        private int[] top = NO_ROWS;
+        private int topSize;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node child(char first) {
+            final var index = Arrays.binarySearch(firstChars, first);
+            return index < 0 ? null : children[index];
+        }
+
+        private void addChild(Node child) {
+            final var index = -Arrays.binarySearch(firstChars, child.label.charAt(0)) - 1;
+            firstChars = Arrays.copyOf(firstChars, firstChars.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            System.arraycopy(firstChars, index, firstChars, index + 1, firstChars.length - index - 1);
+            System.arraycopy(children, index, children, index + 1, children.length - index - 1);
+            firstChars[index] = child.label.charAt(0);
+            children[index] = child;
+        }
+
+        private void replaceChild(Node child) {
+            children[Arrays.binarySearch(firstChars, child.label.charAt(0))] = child;
+        }
+    }
+}
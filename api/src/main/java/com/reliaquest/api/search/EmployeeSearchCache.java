@@ -0,0 +1,241 @@
+package com.reliaquest.api.search;
+
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Name search results for the current snapshot version, since search traffic keeps repeating the same few names.
+ * <p>
+ * Results are keyed by the lower-cased query, the only thing the search distinguishes, and all of them are dropped
+ * when a newer snapshot version is searched; searches of an older version than the cached one bypass the cache. They
+ * live in lock-striped, access-ordered maps bounded by an estimate of their heap footprint ({@code max-size}), which
+ * counts references to the result employees but not the employees themselves, as those belong to the snapshot.
+ * <p>
+ * Admission follows TinyLFU: once a stripe is full, a new result only displaces the least recently used one if its
+ * query was searched more often lately, going by a small frequency sketch. A burst of one-off queries therefore
+ * cannot flush out the popular ones.
+ */
+@Slf4j
+@Component
+public class EmployeeSearchCache {
+
+    static final String METRIC_NAME = "employee.search.cache";
+    private static final int STRIPES = 16;
+    // Map entry, key string and result list headers.
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+    private static final int BYTES_PER_RESULT = 8;
+    // One sketch counter per this many bytes of capacity; entries take a few hundred bytes, so a few per entry.
+    private static final int BYTES_PER_COUNTER = 64;
+
+    private final long maxBytesPerStripe;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final FrequencySketch sketch;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter rejections;
+
+    private volatile long version = Long.MIN_VALUE;
+
+    public EmployeeSearchCache(
+            MeterRegistry meterRegistry,
+            @Value("${com.reliaquest.employee.api.search-cache.max-size:16MB}") DataSize maxSize) {
+        this.maxBytesPerStripe = maxSize.toBytes() / STRIPES;
+        this.sketch =
+                new FrequencySketch((int) Math.min(1 << 22, Math.max(256, maxSize.toBytes() / BYTES_PER_COUNTER)));
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.evictions = Counter.builder(METRIC_NAME + ".evictions")
+                .description("Search results evicted to admit more frequently searched ones")
+                .register(meterRegistry);
+        this.rejections = Counter.builder(METRIC_NAME + ".rejections")
+                .description("Search results not admitted because their query was searched less often")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".hit.ratio", this, EmployeeSearchCache::hitRatio)
+                .description("Share of name searches answered from the cache")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", this, EmployeeSearchCache::estimatedBytes)
+                .description("Estimated heap held by cached search results")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached result of {@code query} against snapshot {@code snapshotVersion}, running {@code search} and
+     * caching its result on a miss.
+     */
+    public List<EmployeeResponseDTO> get(
+            long snapshotVersion, String query, Supplier<List<EmployeeResponseDTO>> search) {
+        if (maxBytesPerStripe <= 0 || advance(snapshotVersion) != snapshotVersion) {
+            return search.get();
+        }
+        final var key = query.toLowerCase();
+        final var hash = spread(key.hashCode());
+        sketch.increment(hash);
+        final var stripe = stripes[hash & (STRIPES - 1)];
+        List<EmployeeResponseDTO> cached;
+        synchronized (stripe) {
+            cached = stripe.get(key);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        final var result = List.copyOf(search.get());
+        synchronized (stripe) {
+            // A result of a version that was superseded meanwhile would never be looked up again.
+            if (version == snapshotVersion) {
+                stripe.admit(key, hash, result);
+            }
+        }
+        return result;
+    }
+
+    double hitRatio() {
+        final var total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    long estimatedBytes() {
+        long bytes = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                bytes += stripe.bytes;
+            }
+        }
+        return bytes;
+    }
+
+    private long advance(long snapshotVersion) {
+        if (snapshotVersion > version) {
+            synchronized (this) {
+                if (snapshotVersion > version) {
+                    // Published before clearing, so results of the old version can no longer be admitted.
+                    version = snapshotVersion;
+                    for (Stripe stripe : stripes) {
+                        synchronized (stripe) {
+                            stripe.clear();
+                            stripe.bytes = 0;
+                        }
+                    }
+                    log.debug("Cleared name search cache for snapshot version {}", snapshotVersion);
+                }
+            }
+        }
+        return version;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_NAME + ".requests")
+                .description("Name searches by cache outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static long weight(String key, List<EmployeeResponseDTO> result) {
+        return ENTRY_OVERHEAD_BYTES + 2L * key.length() + (long) BYTES_PER_RESULT * result.size();
+    }
+
+    private static int spread(int hash) {
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class Stripe extends LinkedHashMap<String, List<EmployeeResponseDTO>> {
+
+        private long bytes;
+
+        private Stripe() {
+            super(16, 0.75f, true);
+        }
+
+        private void admit(String key, int hash, List<EmployeeResponseDTO> result) {
+            if (containsKey(key)) {
+                return;
+            }
+            final var weight = weight(key, result);
+            if (weight > maxBytesPerStripe) {
+                rejections.increment();
+                return;
+            }
+            final var frequency = sketch.frequency(hash);
+            while (bytes + weight > maxBytesPerStripe) {
+                final var victim = entrySet().iterator().next();
+                if (frequency <= sketch.frequency(spread(victim.getKey().hashCode()))) {
+                    rejections.increment();
+                    return;
+                }
+                remove(victim.getKey());
+                bytes -= weight(victim.getKey(), victim.getValue());
+                evictions.increment();
+            }
+            put(key, result);
+            bytes += weight;
+        }
+    }
+
+    /*
+     * Count-min sketch of recent query frequencies: four counters per query, saturating at 15. All counters are halved
+     * once each has been incremented twice on average, so popularity fades and colliding one-off queries do not drive
+     * counters to saturation, where every query would look equally frequent. Counters are updated without
+     * synchronization; a lost increment or reset only makes an estimate slightly off.
+     */
+    private static final class FrequencySketch {
+
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = {0x97CB3127, 0xB8E1AFED, 0x4F1BBCDC, 0x6C8E9CF5};
+
+        private final byte[] counters;
+        private final int mask;
+        private final int resetAfter;
+        private int increments;
+
+        private FrequencySketch(int size) {
+            final var length = Integer.highestOneBit(size);
+            this.counters = new byte[length];
+            this.mask = length - 1;
+            this.resetAfter = length / 2;
+        }
+
+        private void increment(int hash) {
+            for (int seed : SEEDS) {
+                final var index = index(hash, seed);
+                if (counters[index] < MAX_COUNT) {
+                    counters[index]++;
+                }
+            }
+            if (++increments >= resetAfter) {
+                increments = 0;
+                for (int i = 0; i < counters.length; i++) {
+                    counters[i] >>= 1;
+                }
+            }
+        }
+
+        private int frequency(int hash) {
+            int frequency = MAX_COUNT;
+            for (int seed : SEEDS) {
+                frequency = Math.min(frequency, counters[index(hash, seed)]);
+            }
+            return frequency;
+        }
+
+        private int index(int hash, int seed) {
+            final var mixed = (hash ^ seed) * 0x9E3779B9;
+            return (mixed ^ (mixed >>> 15)) & mask;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.EmployeeCreateJobDTO;
+import com.reliaquest.api.dto.EmployeeRequestDTO;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Write-behind pipeline for employee creation.
+ * <p>
+ * Submitted requests are queued in a bounded queue and flushed upstream by a single worker, which drains up to
+ * {@code batch-size} jobs at a time and paces them through the shards' {@link UpstreamRateBudget}s. Callers poll the
+ * job status instead of waiting on the upstream round trip and its retries.
+ * <p>
+ * Each create is tried once. When upstream throttles it, the job and the rest of its batch are set aside for
+ * {@code throttle-delay} and then flushed ahead of newer jobs, so the worker is never parked in a retry sleep; a job
+ * throttled {@code max-attempts} times fails. On shutdown the worker keeps flushing queued jobs for up to
+ * {@code drain-timeout}, and every job still unfinished after that is marked failed.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "com.reliaquest.employee.api.async-create", name = "enabled", havingValue = "true")
+public class EmployeeCreatePipeline {
+
+    private static final long IDLE_POLL_MILLIS = 1_000;
+
+    private final IEmployeeService employeeService;
+    private final UpstreamShards shards;
+    private final BlockingQueue<Job> queue;
+    // Throttled jobs, in the order they become due again; only the worker takes from it.
+    private final Queue<Job> deferred = new ConcurrentLinkedQueue<>();
+    private final Map<UUID, Job> jobs = new ConcurrentHashMap<>();
+    private final int batchSize;
+    private final Duration jobRetention;
+    private final Duration throttleDelay;
+    private final int maxAttempts;
+    private final Duration drainTimeout;
+
+    private volatile boolean stopping;
+    private Thread worker;
+
+    public EmployeeCreatePipeline(
+            IEmployeeService employeeService,
+            UpstreamShards shards,
+            @Value("${com.reliaquest.employee.api.async-create.queue-capacity:1000}") int queueCapacity,
+            @Value("${com.reliaquest.employee.api.async-create.batch-size:20}") int batchSize,
+            @Value("${com.reliaquest.employee.api.async-create.job-retention:1h}") Duration jobRetention,
+            @Value("${com.reliaquest.employee.api.async-create.throttle-delay:30s}") Duration throttleDelay,
+            @Value("${com.reliaquest.employee.api.async-create.max-attempts:5}") int maxAttempts,
+            @Value("${com.reliaquest.employee.api.async-create.drain-timeout:10s}") Duration drainTimeout) {
+        this.employeeService = employeeService;
+        this.shards = shards;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.jobRetention = jobRetention;
+        this.throttleDelay = throttleDelay;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.drainTimeout = drainTimeout;
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        worker = new Thread(this::run, "employee-create-pipeline");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        stopping = true;
+        if (worker != null) {
+            // The worker exits by itself once the queue is empty; past the timeout it is cut short.
+            worker.join(Math.max(1, drainTimeout.toMillis()));
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        var unfinished = 0;
+        for (Job job : jobs.values()) {
+            if (job.complete(EmployeeCreateJobDTO.Status.FAILED, null, "Stopped before the employee was created")) {
+                unfinished++;
+            }
+        }
+        if (unfinished > 0) {
+            log.warn("Stopped employee create pipeline, failing {} unfinished jobs", unfinished);
+        }
+    }
+
+    /**
+     * Queues an employee for creation.
+     *
+     * @return the queued job, or empty if the queue is full or the pipeline is stopping
+     */
+    public Optional<EmployeeCreateJobDTO> submit(EmployeeRequestDTO request) {
+        final var job = new Job(UUID.randomUUID(), request, Instant.now());
+        jobs.put(job.id, job);
+        if (stopping || !queue.offer(job)) {
+            jobs.remove(job.id);
+            log.warn("Employee create queue is full or stopping, rejecting request");
+            return Optional.empty();
+        }
+        log.debug("Queued employee create job {}", job.id);
+        return Optional.of(job.toDTO());
+    }
+
+    public Optional<EmployeeCreateJobDTO> getJob(UUID id) {
+        return Optional.ofNullable(jobs.get(id)).map(Job::toDTO);
+    }
+
+    private void run() {
+        final List<Job> batch = new ArrayList<>(batchSize);
+        // Keeps draining the queue after stop() until it is empty; throttled jobs are not waited for then.
+        while (!stopping || !queue.isEmpty()) {
+            try {
+                evictExpiredJobs();
+                takeDueDeferred(batch);
+                if (batch.isEmpty()) {
+                    final var first = queue.poll(pollMillis(), TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in employee create pipeline", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void takeDueDeferred(List<Job> batch) {
+        final var now = System.nanoTime();
+        for (var job = deferred.peek();
+                job != null && now - job.retryAtNanos >= 0 && batch.size() < batchSize;
+                job = deferred.peek()) {
+            batch.add(deferred.poll());
+        }
+    }
+
+    private long pollMillis() {
+        final var next = deferred.peek();
+        if (next == null) {
+            return IDLE_POLL_MILLIS;
+        }
+        final var untilDue = TimeUnit.NANOSECONDS.toMillis(next.retryAtNanos - System.nanoTime());
+        return Math.max(1, Math.min(IDLE_POLL_MILLIS, untilDue));
+    }
+
+    private void flush(List<Job> batch) throws InterruptedException {
+        log.debug("Flushing {} queued employee creates", batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            final var job = batch.get(i);
+            shards.awaitCapacity();
+            job.status = EmployeeCreateJobDTO.Status.RUNNING;
+            job.attempts++;
+            try {
+                final var employee = employeeService.tryCreateEmployee(job.request);
+                employee.ifPresentOrElse(
+                        created -> job.complete(EmployeeCreateJobDTO.Status.SUCCEEDED, created, null),
+                        () -> job.complete(
+                                EmployeeCreateJobDTO.Status.FAILED, null, "Upstream did not create employee"));
+            } catch (UpstreamThrottledException e) {
+                // The rest of the batch would be throttled as well, so it is set aside too.
+                defer(batch.subList(i, batch.size()));
+                return;
+            } catch (RuntimeException e) {
+                // Fails this job only, e.g. on an open circuit, so the rest of the batch is still flushed and every
+                // job completes and eventually expires.
+                log.warn("Employee create job {} failed", job.id, e);
+                job.complete(EmployeeCreateJobDTO.Status.FAILED, null, e.getMessage());
+            }
+            log.info("Employee create job {} finished: {}", job.id, job.status);
+        }
+    }
+
+    private void defer(List<Job> throttled) {
+        final var retryAtNanos = System.nanoTime() + throttleDelay.toNanos();
+        var deferredJobs = 0;
+        for (Job job : throttled) {
+            if (job.attempts >= maxAttempts) {
+                job.complete(
+                        EmployeeCreateJobDTO.Status.FAILED,
+                        null,
+                        "Upstream throttled the create " + job.attempts + " times");
+                log.info("Employee create job {} finished: {}", job.id, job.status);
+            } else {
+                job.status = EmployeeCreateJobDTO.Status.QUEUED;
+                job.retryAtNanos = retryAtNanos;
+                deferred.add(job);
+                deferredJobs++;
+            }
+        }
+        if (deferredJobs > 0) {
+            log.info("Upstream throttled employee creates, retrying {} jobs in {}", deferredJobs, throttleDelay);
+        }
+    }
+
+    private void evictExpiredJobs() {
+        final var cutoff = Instant.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.completedAt != null && job.completedAt.isBefore(cutoff));
+    }
+
+    private static final class Job {
+        private final UUID id;
+        private final EmployeeRequestDTO request;
+        private final Instant submittedAt;
+        private volatile EmployeeCreateJobDTO.Status status = EmployeeCreateJobDTO.Status.QUEUED;
+        private volatile EmployeeResponseDTO employee;
+        private volatile String error;
+        private volatile Instant completedAt;
+        // Only touched by the worker.
+        private int attempts;
+        private long retryAtNanos;
+
+        private Job(UUID id, EmployeeRequestDTO request, Instant submittedAt) {
+            this.id = id;
+            this.request = request;
+            this.submittedAt = submittedAt;
+        }
+
+        /**
+         * Records the outcome, unless the job already has one, e.g. when stop() fails it while the worker finishes.
+         */
+        private synchronized boolean complete(
+                EmployeeCreateJobDTO.Status status, EmployeeResponseDTO employee, String error) {
+            if (completedAt != null) {
+                return false;
+            }
+            this.employee = employee;
+            this.error = error;
+            this.completedAt = Instant.now();
+            this.status = status;
+            return true;
+        }
+
+        private EmployeeCreateJobDTO toDTO() {
+            return EmployeeCreateJobDTO.builder()
+                    .id(id)
+                    .status(status)
+                    .employee(employee)
+                    .error(error)
+                    .submittedAt(submittedAt)
+                    .completedAt(completedAt)
+                    .build();
+        }
+    }
+}
@@ -1,11 +1,32 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.EmployeeViews;
+import com.reliaquest.api.cache.EmployeeViewsCache;
+import com.reliaquest.api.dto.EmployeeGroupAggregateDTO;
 import com.reliaquest.api.dto.EmployeeListResponse;
+import com.reliaquest.api.dto.EmployeeQueryDTO;
+import com.reliaquest.api.dto.EmployeeQueryResultDTO;
 import com.reliaquest.api.dto.EmployeeRequestDTO;
 import com.reliaquest.api.dto.EmployeeResponseDTO;
 import com.reliaquest.api.dto.SingleEmployeeResponse;
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.query.EmployeeQueryEngine;
+import com.reliaquest.api.resilience.AdaptiveUpstreamExecutor;
+import com.reliaquest.api.resilience.CircuitBreaker;
+import com.reliaquest.api.resilience.UpstreamGuard;
+import com.reliaquest.api.search.EmployeeAutocompleter;
+import com.reliaquest.api.search.EmployeeSearchCache;
+import com.reliaquest.api.stats.EmployeeAggregator;
+import com.reliaquest.api.timing.RequestTimings;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,30 +40,58 @@ import org.springframework.web.client.RestTemplate;
 @RequiredArgsConstructor
 public class EmployeeServiceImpl implements IEmployeeService {
     private final RestTemplate restTemplate;
+    private final UpstreamShards shards;
+    private final UpstreamGuard upstreamGuard;
+    private final AdaptiveUpstreamExecutor upstreamExecutor;
+    private final EmployeeSnapshotCache snapshotCache;
+    private final EmployeeViewsCache viewsCache;
+    private final EmployeeAggregator aggregator;
+    private final EmployeeQueryEngine queryEngine;
+    private final EmployeeAutocompleter autocompleter;
+    private final EmployeeSearchCache searchCache;
 
-    @Value("${com.reliaquest.employee.api.base-url}")
-    private String SERVER_URL;
+    @Value("${com.reliaquest.employee.api.snapshot.max-age:30s}")
+    private Duration snapshotMaxAge;
 
     private static final int MAX_RETRIES = 5;
     private static final long RETRY_DELAY_MS = 30_500;
 
-    private <T> ResponseEntity<T> executeWithRetries(RequestExecutor<T> executor, String operation) {
+    private <T> ResponseEntity<T> executeWithRetries(
+            UpstreamShard shard, RequestExecutor<T> executor, UpstreamOperation operation) {
+        return executeWithRetries(shard, executor, operation, MAX_RETRIES);
+    }
+
+    private <T> ResponseEntity<T> executeWithRetries(
+            UpstreamShard shard, RequestExecutor<T> executor, UpstreamOperation operation, int maxAttempts) {
         int retryCount = 0;
         long currentDelay = RETRY_DELAY_MS;
+        final var key = shard.key(operation.getKey());
+        final Supplier<ResponseEntity<T>> guardedCall = () -> upstreamGuard.call(key, () -> {
+            shard.rateBudget().record();
+            // Hedge requests only go out while the shard's rate budget has room for them.
+            return upstreamExecutor.execute(
+                    key, executor::execute, operation.isHedged() ? shard.rateBudget()::tryAcquire : null);
+        });
 
-        while (retryCount < MAX_RETRIES) {
+        while (retryCount < maxAttempts) {
             try {
-                return executor.execute();
+                return RequestTimings.upstreamCall(key, shard.baseUrl(), guardedCall);
             } catch (HttpClientErrorException.TooManyRequests e) {
+                shard.rateBudget().onThrottled();
                 retryCount++;
                 log.warn(
-                        "Received 429 Too Many Requests during {}. Retrying {}/{} ...",
-                        operation,
+                        "Received 429 Too Many Requests from {} during {}. Retrying {}/{} ...",
+                        shard.baseUrl(),
+                        operation.getDescription(),
                         retryCount,
-                        MAX_RETRIES);
-                if (retryCount < MAX_RETRIES) {
+                        maxAttempts);
+                if (upstreamGuard.getState(key) == CircuitBreaker.State.OPEN) {
+                    // Retrying would only be rejected by the open circuit after sleeping.
+                    throw new UpstreamUnavailableException("Upstream circuit for " + key + " is open");
+                }
+                if (retryCount < maxAttempts) {
                     try {
-                        Thread.sleep(currentDelay);
+                        RequestTimings.sleepBeforeRetry(key, retryCount, currentDelay);
                         currentDelay *= 1.5; // Modify local variable instead of static field
                     } catch (InterruptedException ie) {
                         Thread.currentThread().interrupt();
@@ -52,7 +101,7 @@ public class EmployeeServiceImpl implements IEmployeeService {
                 }
             }
         }
-        throw new RuntimeException("Too many requests. Failed after " + MAX_RETRIES + " retries.");
+        throw new UpstreamThrottledException("Too many requests. Failed after " + maxAttempts + " attempts.");
     }
 
     @FunctionalInterface
@@ -60,55 +109,179 @@ public class EmployeeServiceImpl implements IEmployeeService {
         ResponseEntity<T> execute();
     }
 
+    @Getter
+    @RequiredArgsConstructor
+    private enum UpstreamOperation {
+        LIST_EMPLOYEES("list", "fetching all employees", false),
+        GET_EMPLOYEE("get", "fetching employee by ID", true),
+        CREATE_EMPLOYEE("create", "creating employee", false),
+        DELETE_EMPLOYEE("delete", "deleting employee", false);
+
+        private final String key;
+        private final String description;
+        private final boolean hedged;
+    }
+
+    /**
+     * Fetches the employee lists of all shards in parallel and concatenates them in shard order.
+     */
     @Override
     public List<EmployeeResponseDTO> getAllEmployees() {
+        List<List<EmployeeResponseDTO>> shardEmployees;
+        final var locationStamp = shards.locationStamp();
+        try {
+            shardEmployees = shards.scatter(shards.all(), this::fetchEmployees);
+        } catch (UpstreamUnavailableException e) {
+            return snapshotCache
+                    .current()
+                    .map(snapshot -> {
+                        log.warn(
+                                "Upstream unavailable, serving {} cached employees from snapshot version {}",
+                                snapshot.employees().size(),
+                                snapshot.version());
+                        return snapshot.employees();
+                    })
+                    .orElseThrow(() -> e);
+        }
+        if (shardEmployees.size() == 1) {
+            List<EmployeeResponseDTO> employees = shardEmployees.get(0);
+            log.debug("Successfully retrieved {} employees", employees.size());
+            snapshotCache.publish(employees);
+            return employees;
+        }
+        final var employees = new ArrayList<EmployeeResponseDTO>();
+        final var locations = new HashMap<UUID, UpstreamShard>();
+        for (int index = 0; index < shardEmployees.size(); index++) {
+            final var shard = shards.all().get(index);
+            shardEmployees.get(index).forEach(employee -> locations.put(employee.getId(), shard));
+            employees.addAll(shardEmployees.get(index));
+        }
+        locations.remove(null);
+        shards.rememberAll(locations, locationStamp);
+        log.debug("Successfully retrieved {} employees from {} shards", employees.size(), shardEmployees.size());
+        snapshotCache.publish(employees);
+        return employees;
+    }
+
+    private List<EmployeeResponseDTO> fetchEmployees(UpstreamShard shard) {
         ResponseEntity<EmployeeListResponse> response = executeWithRetries(
-                () -> restTemplate.getForEntity(SERVER_URL, EmployeeListResponse.class), "fetching all employees");
+                shard,
+                () -> restTemplate.getForEntity(shard.baseUrl(), EmployeeListResponse.class),
+                UpstreamOperation.LIST_EMPLOYEES);
         if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-            List<EmployeeResponseDTO> employees = response.getBody().getData();
-            log.info("Successfully retrieved {} employees", employees.size());
-            return employees;
+            return response.getBody().getData();
         } else {
-            log.error("Failed to retrieve employees: {}", response.getStatusCode());
+            log.error("Failed to retrieve employees from {}: {}", shard.baseUrl(), response.getStatusCode());
             throw new RuntimeException("Failed to retrieve employees: " + response.getStatusCode());
         }
     }
 
     @Override
     public List<EmployeeResponseDTO> getEmployeesByNameSearch(String searchString) {
-        log.info("Retrieving Employee {}", searchString);
-        return getAllEmployees().stream()
-                .filter(emp -> emp.getEmployeeName() != null
-                        && emp.getEmployeeName().toLowerCase().contains(searchString.toLowerCase()))
-                .collect(Collectors.toList());
+        log.debug("Retrieving Employee {}", searchString);
+        final var views = viewsCache.current();
+        if (views.isPresent()) {
+            return searchCache.get(
+                    views.get().snapshot().version(),
+                    searchString,
+                    () -> RequestTimings.compute(
+                            "nameSearch", views.get().lowerCaseNames().size(), () -> views.get()
+                                    .searchByName(searchString)));
+        }
+        // A snapshot within its max age lets cached results answer without an upstream call.
+        final var snapshot = getEmployeeSnapshot();
+        final var employees = snapshot.employees();
+        return searchCache.get(
+                snapshot.version(),
+                searchString,
+                () -> RequestTimings.compute("nameSearch", employees.size(), () -> employees.stream()
+                        .filter(emp -> emp.getEmployeeName() != null
+                                && emp.getEmployeeName().toLowerCase().contains(searchString.toLowerCase()))
+                        .collect(Collectors.toList())));
     }
 
     @Override
     public Integer getHighestSalaryOfEmployees() {
-        return getAllEmployees().stream()
+        final var views = viewsCache.current();
+        if (views.isPresent()) {
+            return views.get().highestSalary();
+        }
+        final var employees = getAllEmployees();
+        return RequestTimings.compute("highestSalary", employees.size(), () -> employees.stream()
                 .mapToInt(EmployeeResponseDTO::getEmployeeSalary)
                 .max()
-                .orElse(0);
+                .orElse(0));
     }
 
     @Override
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        return getAllEmployees().stream()
+        final var views = viewsCache.current();
+        if (views.isPresent()) {
+            return views.get().topTenNames();
+        }
+        final var employees = getAllEmployees();
+        return RequestTimings.compute("topTenHighestEarning", employees.size(), () -> employees.stream()
                 .sorted((a, b) -> Integer.compare(b.getEmployeeSalary(), a.getEmployeeSalary()))
                 .limit(10)
                 .map(EmployeeResponseDTO::getEmployeeName)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
+    /**
+     * Looks the employee up on the shard it was last seen on, or its consistent-hash owner. The mock servers assign
+     * ids themselves, so an employee that has not been seen yet may live elsewhere; the other shards are then asked in
+     * parallel. Employees in the precomputed views are answered from there without an upstream call, as are employees
+     * deleted since the views were built.
+     */
     @Override
     public Optional<EmployeeResponseDTO> getEmployeeById(UUID id) {
-        ResponseEntity<SingleEmployeeResponse> response = executeWithRetries(
-                () -> restTemplate.getForEntity(SERVER_URL + "/" + id, SingleEmployeeResponse.class),
-                "fetching employee by ID");
+        if (viewsCache.isDeleted(id)) {
+            return Optional.empty();
+        }
+        final var precomputed = viewsCache.findById(id);
+        if (precomputed.isPresent()) {
+            return precomputed;
+        }
+        try {
+            final var located = shards.isLocated(id);
+            final var shard = shards.locate(id);
+            final var employee = fetchEmployee(shard, id);
+            if (employee.isPresent() || located || shards.all().size() == 1) {
+                return employee;
+            }
+            final var others =
+                    shards.all().stream().filter(other -> other != shard).toList();
+            return shards.scatter(others, other -> fetchEmployee(other, id)).stream()
+                    .flatMap(Optional::stream)
+                    .findFirst();
+        } catch (UpstreamUnavailableException e) {
+            return snapshotCache
+                    .current()
+                    .map(snapshot -> {
+                        log.warn(
+                                "Upstream unavailable, serving employee {} from snapshot version {}",
+                                id,
+                                snapshot.version());
+                        return Optional.ofNullable(snapshot.byId().get(id));
+                    })
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private Optional<EmployeeResponseDTO> fetchEmployee(UpstreamShard shard, UUID id) {
+        ResponseEntity<SingleEmployeeResponse> response;
+        try {
+            response = executeWithRetries(
+                    shard,
+                    () -> restTemplate.getForEntity(shard.baseUrl() + "/" + id, SingleEmployeeResponse.class),
+                    UpstreamOperation.GET_EMPLOYEE);
+        } catch (HttpClientErrorException.NotFound e) {
+            return Optional.empty();
+        }
 
         if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-            log.info("Successfully retrieved employee : "
-                    + response.getBody().getData().getId());
+            log.debug("Successfully retrieved employee {}", id);
+            shards.remember(id, shard);
             return Optional.ofNullable(response.getBody().getData());
         } else {
             log.error("Failed to retrieve employee with ID {}: {}", id, response.getStatusCode());
@@ -118,14 +291,31 @@ public class EmployeeServiceImpl implements IEmployeeService {
 
     @Override
     public Optional<EmployeeResponseDTO> createEmployee(EmployeeRequestDTO request) {
+        try {
+            return createEmployee(request, MAX_RETRIES);
+        } catch (UpstreamThrottledException e) {
+            log.error("Unexpected error while creating employee: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Optional<EmployeeResponseDTO> tryCreateEmployee(EmployeeRequestDTO request) {
+        return createEmployee(request, 1);
+    }
+
+    private Optional<EmployeeResponseDTO> createEmployee(EmployeeRequestDTO request, int maxAttempts) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         HttpEntity<EmployeeRequestDTO> entity = new HttpEntity<>(request, headers);
+        UpstreamShard shard = shards.forCreate();
 
         try {
             ResponseEntity<SingleEmployeeResponse> response = executeWithRetries(
-                    () -> restTemplate.postForEntity(SERVER_URL, entity, SingleEmployeeResponse.class),
-                    "creating employee");
+                    shard,
+                    () -> restTemplate.postForEntity(shard.baseUrl(), entity, SingleEmployeeResponse.class),
+                    UpstreamOperation.CREATE_EMPLOYEE,
+                    maxAttempts);
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
                 SingleEmployeeResponse employee = response.getBody();
@@ -135,7 +325,8 @@ public class EmployeeServiceImpl implements IEmployeeService {
                     return Optional.empty();
                 }
 
-                log.info("Successfully created employee: {}", employee);
+                log.debug("Successfully created employee {}", employee.getData().getId());
+                shards.remember(employee.getData().getId(), shard);
                 return Optional.of(response.getBody().getData());
             } else {
                 log.error(
@@ -144,6 +335,8 @@ public class EmployeeServiceImpl implements IEmployeeService {
                         response.getBody());
                 return Optional.empty();
             }
+        } catch (UpstreamUnavailableException | UpstreamThrottledException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Unexpected error while creating employee: {}", e.getMessage());
             return Optional.empty();
@@ -162,12 +355,20 @@ public class EmployeeServiceImpl implements IEmployeeService {
                         headers.setContentType(MediaType.APPLICATION_JSON);
                         HttpEntity<Map<String, String>> requestEntity = new HttpEntity<>(requestBody, headers);
 
+                        // getEmployeeById remembered the shard it found the employee on.
+                        UpstreamShard shard = shards.locate(id);
                         executeWithRetries(
-                                () -> restTemplate.exchange(SERVER_URL, HttpMethod.DELETE, requestEntity, Void.class),
-                                "deleting employee");
+                                shard,
+                                () -> restTemplate.exchange(
+                                        shard.baseUrl(), HttpMethod.DELETE, requestEntity, Void.class),
+                                UpstreamOperation.DELETE_EMPLOYEE);
+                        shards.forget(id);
+                        viewsCache.markDeleted(id);
 
-                        log.info("Successfully deleted employee with ID {}", id);
+                        log.debug("Successfully deleted employee with ID {}", id);
                         return true;
+                    } catch (UpstreamUnavailableException e) {
+                        throw e;
                     } catch (Exception e) {
                         log.error("Failed to delete employee with ID {}: {}", id, e.getMessage());
                         return false;
@@ -178,4 +379,70 @@ public class EmployeeServiceImpl implements IEmployeeService {
                     return false;
                 });
     }
+
+    /**
+     * Returns the snapshot of the precomputed views if background refresh keeps them, else the cached employee
+     * snapshot, refreshing it from upstream first if it is older than the configured maximum age.
+     */
+    @Override
+    public EmployeeSnapshot getEmployeeSnapshot() {
+        final var views = viewsCache.current();
+        if (views.isPresent()) {
+            return views.get().snapshot();
+        }
+        return snapshotCache
+                .current()
+                .filter(snapshot -> snapshot.fetchedAt().isAfter(Instant.now().minus(snapshotMaxAge)))
+                .orElseGet(this::refreshEmployeeSnapshot);
+    }
+
+    /**
+     * Returns the snapshot of the precomputed views if background refresh keeps them, else fetches the employee list
+     * from upstream like {@link #refreshEmployeeSnapshot()}.
+     */
+    @Override
+    public EmployeeSnapshot getLatestEmployeeSnapshot() {
+        return viewsCache.current().map(EmployeeViews::snapshot).orElseGet(this::refreshEmployeeSnapshot);
+    }
+
+    @Override
+    public List<EmployeeGroupAggregateDTO> getAggregatesByTitle() {
+        final var snapshot = getEmployeeSnapshot();
+        return RequestTimings.compute(
+                "aggregatesByTitle",
+                snapshot.employees().size(),
+                () -> aggregator.aggregate(snapshot, EmployeeAggregator.Grouping.TITLE));
+    }
+
+    @Override
+    public List<EmployeeGroupAggregateDTO> getAggregatesByAgeBand() {
+        final var snapshot = getEmployeeSnapshot();
+        return RequestTimings.compute(
+                "aggregatesByAgeBand",
+                snapshot.employees().size(),
+                () -> aggregator.aggregate(snapshot, EmployeeAggregator.Grouping.AGE_BAND));
+    }
+
+    @Override
+    public EmployeeQueryResultDTO queryEmployees(EmployeeQueryDTO query) {
+        final var snapshot = getEmployeeSnapshot();
+        return RequestTimings.compute("query", snapshot.employees().size(), () -> queryEngine.execute(snapshot, query));
+    }
+
+    @Override
+    public List<EmployeeResponseDTO> autocompleteEmployees(String prefix, int limit) {
+        final var snapshot = getEmployeeSnapshot();
+        return RequestTimings.compute(
+                "autocomplete", snapshot.employees().size(), () -> autocompleter.complete(snapshot, prefix, limit));
+    }
+
+    /**
+     * Fetches the employee list from upstream like {@link #getAllEmployees()} and returns the snapshot it produced, or
+     * the last snapshot if upstream is unavailable.
+     */
+    @Override
+    public EmployeeSnapshot refreshEmployeeSnapshot() {
+        getAllEmployees();
+        return snapshotCache.current().orElseThrow();
+    }
 }
@@ -0,0 +1,139 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeListBodyCache;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.EmployeeViews;
+import com.reliaquest.api.cache.EmployeeViewsCache;
+import com.reliaquest.api.query.EmployeeQueryEngine;
+import com.reliaquest.api.search.EmployeeAutocompleter;
+import com.reliaquest.api.stats.EmployeeAggregator;
+import com.reliaquest.api.stats.SalaryStatsService;
+import com.reliaquest.api.timing.RequestTimings;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps every read endpoint served from precomputed state.
+ * <p>
+ * Every {@code background-refresh.interval} the employee list is fetched from upstream, provided every shard's request
+ * budget has room for it; otherwise the round is skipped rather than competing with interactive requests for the
+ * budget. When the snapshot changed, the {@link EmployeeViews}, aggregates, query indexes, name trie, salary statistics
+ * and serialized list are rebuilt for it on the refresher thread, and only then swapped in through the
+ * {@link EmployeeViewsCache}, so requests never see a snapshot whose derived state is still being built. Reads are at
+ * most one interval behind upstream, plus however long upstream stays unavailable or throttled.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        prefix = "com.reliaquest.employee.api.background-refresh",
+        name = "enabled",
+        havingValue = "true")
+public class EmployeeViewRefresher {
+
+    private final IEmployeeService employeeService;
+    private final UpstreamShards shards;
+    private final EmployeeSnapshotCache snapshotCache;
+    private final EmployeeViewsCache viewsCache;
+    private final EmployeeAggregator aggregator;
+    private final EmployeeQueryEngine queryEngine;
+    private final EmployeeAutocompleter autocompleter;
+    private final SalaryStatsService salaryStatsService;
+    private final EmployeeListBodyCache listBodyCache;
+    private final Duration interval;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final var thread = new Thread(runnable, "employee-view-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public EmployeeViewRefresher(
+            IEmployeeService employeeService,
+            UpstreamShards shards,
+            EmployeeSnapshotCache snapshotCache,
+            EmployeeViewsCache viewsCache,
+            EmployeeAggregator aggregator,
+            EmployeeQueryEngine queryEngine,
+            EmployeeAutocompleter autocompleter,
+            SalaryStatsService salaryStatsService,
+            EmployeeListBodyCache listBodyCache,
+            @Value("${com.reliaquest.employee.api.background-refresh.interval:20s}") Duration interval) {
+        this.employeeService = employeeService;
+        this.shards = shards;
+        this.snapshotCache = snapshotCache;
+        this.viewsCache = viewsCache;
+        this.aggregator = aggregator;
+        this.queryEngine = queryEngine;
+        this.autocompleter = autocompleter;
+        this.salaryStatsService = salaryStatsService;
+        this.listBodyCache = listBodyCache;
+        this.interval = interval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    void refresh() {
+        // An exception escaping the scheduled task would cancel all later rounds, so none may.
+        try {
+            if (viewsCache.current().isEmpty()) {
+                // A snapshot restored from a checkpoint can be served until the first fetch completes.
+                try {
+                    snapshotCache.current().ifPresent(this::install);
+                } catch (RuntimeException e) {
+                    log.warn("Could not precompute views of the restored employee snapshot: {}", e.getMessage());
+                }
+            }
+            final var spent = shards.all().stream()
+                    .filter(shard -> !shard.rateBudget().hasCapacity())
+                    .map(UpstreamShard::baseUrl)
+                    .toList();
+            if (!spent.isEmpty()) {
+                log.debug("Skipping background employee refresh, request budget spent on {}", spent);
+                return;
+            }
+            install(employeeService.refreshEmployeeSnapshot());
+        } catch (RuntimeException e) {
+            log.warn("Background employee refresh failed, still serving the previous snapshot: {}", e.getMessage());
+        }
+    }
+
+    void install(EmployeeSnapshot snapshot) {
+        final var current = viewsCache.current().orElse(null);
+        if (current != null && current.snapshot().version() >= snapshot.version()) {
+            return;
+        }
+        final var started = System.nanoTime();
+        final var views =
+                RequestTimings.compute("precomputeViews", snapshot.employees().size(), () -> {
+                    aggregator.prepare(snapshot);
+                    queryEngine.prepare(snapshot);
+                    autocompleter.prepare(snapshot);
+                    salaryStatsService.getSalaryStats(snapshot, null);
+                    listBodyCache.get(snapshot);
+                    return EmployeeViews.of(snapshot);
+                });
+        viewsCache.swap(views);
+        log.debug(
+                "Swapped in precomputed views of snapshot version {} ({} employees), built in {} ms",
+                snapshot.version(),
+                snapshot.employees().size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+}
@@ -1,5 +1,9 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.dto.EmployeeGroupAggregateDTO;
+import com.reliaquest.api.dto.EmployeeQueryDTO;
+import com.reliaquest.api.dto.EmployeeQueryResultDTO;
 import com.reliaquest.api.dto.EmployeeRequestDTO;
 import com.reliaquest.api.dto.EmployeeResponseDTO;
 import java.util.List;
@@ -19,5 +23,25 @@ public interface IEmployeeService {
 
     Optional<EmployeeResponseDTO> createEmployee(EmployeeRequestDTO employeeInput);
 
+    /**
+     * Creates an employee like {@link #createEmployee}, but gives up on the first 429 from upstream with an
+     * {@link com.reliaquest.api.exception.UpstreamThrottledException} instead of waiting to retry.
+     */
+    Optional<EmployeeResponseDTO> tryCreateEmployee(EmployeeRequestDTO employeeInput);
+
     boolean deleteEmployeeById(UUID id);
+
+    EmployeeSnapshot getEmployeeSnapshot();
+
+    EmployeeSnapshot refreshEmployeeSnapshot();
+
+    EmployeeSnapshot getLatestEmployeeSnapshot();
+
+    List<EmployeeGroupAggregateDTO> getAggregatesByTitle();
+
+    List<EmployeeGroupAggregateDTO> getAggregatesByAgeBand();
+
+    EmployeeQueryResultDTO queryEmployees(EmployeeQueryDTO query);
+
+    List<EmployeeResponseDTO> autocompleteEmployees(String prefix, int limit);
 }
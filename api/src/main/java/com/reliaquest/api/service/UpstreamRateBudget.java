@@ -0,0 +1,100 @@
+package com.reliaquest.api.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tracks how many requests have been sent to one mock employee server in the current window, so background work can
+ * stay under the server's request limit instead of discovering it through 429 responses. {@link UpstreamShards} keeps
+ * one budget per server.
+ * <p>
+ * Every upstream attempt is {@link #record() recorded}; a 429 {@link #onThrottled() exhausts} the budget for a full
+ * window. Interactive requests are never blocked here, while deferrable work waits for {@link #awaitCapacity()}.
+ */
+@Slf4j
+public class UpstreamRateBudget {
+
+    private final int requestsPerWindow;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+
+    private long windowStart;
+    private int used;
+    private long throttledUntil;
+
+    public UpstreamRateBudget(int requestsPerWindow, Duration window) {
+        this(requestsPerWindow, window, System::nanoTime);
+    }
+
+    UpstreamRateBudget(int requestsPerWindow, Duration window, LongSupplier nanoClock) {
+        this.requestsPerWindow = requestsPerWindow;
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+        this.windowStart = nanoClock.getAsLong();
+        this.throttledUntil = windowStart;
+    }
+
+    /**
+     * Counts an upstream request against the budget, even if the budget is already spent.
+     */
+    public synchronized void record() {
+        roll(nanoClock.getAsLong());
+        used++;
+    }
+
+    /**
+     * Takes a request from the budget if one is left in the current window.
+     */
+    public synchronized boolean tryAcquire() {
+        final var now = nanoClock.getAsLong();
+        roll(now);
+        if (now - throttledUntil < 0 || used >= requestsPerWindow) {
+            return false;
+        }
+        used++;
+        return true;
+    }
+
+    /**
+     * Marks the budget as spent until a full window has passed, after the server answered 429.
+     */
+    public synchronized void onThrottled() {
+        final var now = nanoClock.getAsLong();
+        throttledUntil = now + windowNanos;
+        windowStart = now;
+        used = requestsPerWindow;
+    }
+
+    /**
+     * Blocks until the budget has room for another request. The caller is expected to {@link #record()} it.
+     */
+    public void awaitCapacity() throws InterruptedException {
+        long waitNanos;
+        while ((waitNanos = nanosUntilCapacity()) > 0) {
+            log.debug("Upstream request budget spent, waiting {} ms", TimeUnit.NANOSECONDS.toMillis(waitNanos));
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    public boolean hasCapacity() {
+        return nanosUntilCapacity() == 0;
+    }
+
+    synchronized long nanosUntilCapacity() {
+        final var now = nanoClock.getAsLong();
+        roll(now);
+        if (now - throttledUntil < 0) {
+            return throttledUntil - now;
+        }
+        return used < requestsPerWindow ? 0 : windowStart + windowNanos - now;
+    }
+
+    private void roll(long now) {
+        if (now - windowStart >= windowNanos && now - throttledUntil >= 0) {
+            windowStart = now;
+            used = 0;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.reliaquest.api.service;
+
+/**
+ * One mock employee server instance and the request budget tracked for it.
+ *
+ * @param index position of the shard in {@code base-urls}
+ */
+public record UpstreamShard(int index, String baseUrl, UpstreamRateBudget rateBudget, boolean onlyShard) {
+
+    /**
+     * Returns the key used for circuit breakers and latency tracking of {@code operation} on this shard; a single
+     * upstream keeps the plain operation name.
+     */
+    public String key(String operation) {
+        return onlyShard ? operation : operation + "@" + index;
+    }
+}
@@ -0,0 +1,246 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.timing.RequestTimings;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The mock employee server instances the api spreads its upstream traffic over.
+ * <p>
+ * Each instance owns its own employees and enforces its own request limit, so every shard gets its own
+ * {@link UpstreamRateBudget}. Id-based calls go to the shard an employee was last seen on; ids that have not been seen
+ * yet go to their owner on a consistent-hash ring, so adding a shard only moves a fraction of those lookups. Calls
+ * that need every shard are {@link #scatter(List, Function) scattered} in parallel.
+ */
+@Slf4j
+@Component
+public class UpstreamShards {
+
+    private static final int VIRTUAL_NODES = 128;
+
+    private final List<UpstreamShard> shards;
+    private final NavigableMap<Long, UpstreamShard> ring = new TreeMap<>();
+    private final AtomicInteger nextCreateShard = new AtomicInteger();
+    private final ExecutorService executor;
+
+    private volatile Map<UUID, UpstreamShard> locations = new ConcurrentHashMap<>();
+
+    // Stamps of the last remember or forget per id, so that a listing can tell which changes happened after it started.
+    private final Map<UUID, Long> changedAt = new HashMap<>();
+    private long stamp;
+    private long listedAt = -1;
+
+    @Autowired
+    public UpstreamShards(
+            MeterRegistry meterRegistry,
+            @Value("${com.reliaquest.employee.api.base-urls:${com.reliaquest.employee.api.base-url:}}")
+                    List<String> baseUrls,
+            @Value("${com.reliaquest.employee.api.rate-budget.requests-per-window:5}") int requestsPerWindow,
+            @Value("${com.reliaquest.employee.api.rate-budget.window:30s}") Duration window) {
+        this(baseUrls, () -> new UpstreamRateBudget(requestsPerWindow, window));
+        for (UpstreamShard shard : shards) {
+            Gauge.builder("employee.upstream.shard.capacity", shard.rateBudget(), b -> b.hasCapacity() ? 1 : 0)
+                    .description("Whether the shard's request budget has room for another request")
+                    .tag("shard", shard.baseUrl())
+                    .register(meterRegistry);
+        }
+        log.info("Upstream shards: {}", baseUrls);
+    }
+
+    public UpstreamShards(List<String> baseUrls, Supplier<UpstreamRateBudget> rateBudgets) {
+        if (baseUrls.isEmpty()) {
+            throw new IllegalArgumentException("At least one upstream base URL is required");
+        }
+        final var shardList = new ArrayList<UpstreamShard>(baseUrls.size());
+        for (int index = 0; index < baseUrls.size(); index++) {
+            final var shard =
+                    new UpstreamShard(index, baseUrls.get(index).trim(), rateBudgets.get(), baseUrls.size() == 1);
+            shardList.add(shard);
+            for (int node = 0; node < VIRTUAL_NODES; node++) {
+                ring.put(hash(shard.baseUrl() + "#" + node), shard);
+            }
+        }
+        this.shards = List.copyOf(shardList);
+        final var threadCount = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            final var thread = new Thread(runnable, "upstream-scatter-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public List<UpstreamShard> all() {
+        return shards;
+    }
+
+    /**
+     * Returns the shard holding employee {@code id} as far as is known, else its consistent-hash owner.
+     */
+    public UpstreamShard locate(UUID id) {
+        final var known = locations.get(id);
+        return known != null ? known : owner(id);
+    }
+
+    public boolean isLocated(UUID id) {
+        return locations.containsKey(id);
+    }
+
+    public synchronized void remember(UUID id, UpstreamShard shard) {
+        if (id != null) {
+            locations.put(id, shard);
+            changedAt.put(id, ++stamp);
+        }
+    }
+
+    public synchronized void forget(UUID id) {
+        locations.remove(id);
+        changedAt.put(id, ++stamp);
+    }
+
+    /**
+     * Returns the stamp to pass to {@link #rememberAll} for a listing that starts now.
+     */
+    public synchronized long locationStamp() {
+        return stamp;
+    }
+
+    /**
+     * Replaces all known locations with those seen in a complete listing of every shard that started at
+     * {@code listingStamp}, keeping what was remembered or forgotten since. A listing that started before the last one
+     * applied is ignored.
+     */
+    public synchronized void rememberAll(Map<UUID, UpstreamShard> seen, long listingStamp) {
+        if (listingStamp < listedAt) {
+            return;
+        }
+        final var next = new ConcurrentHashMap<>(seen);
+        changedAt.forEach((id, changed) -> {
+            if (changed > listingStamp) {
+                final var current = locations.get(id);
+                if (current != null) {
+                    next.put(id, current);
+                } else {
+                    next.remove(id);
+                }
+            }
+        });
+        // Later listings that are not ignored started at listingStamp or after, so older changes are of no use to them.
+        changedAt.values().removeIf(changed -> changed <= listingStamp);
+        listedAt = listingStamp;
+        locations = next;
+    }
+
+    /**
+     * Picks the shard for a new employee: the next shard in turn whose request budget has room, or the next shard in
+     * turn if none has.
+     */
+    public UpstreamShard forCreate() {
+        final var start = Math.floorMod(nextCreateShard.getAndIncrement(), shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            final var shard = shards.get((start + i) % shards.size());
+            if (shard.rateBudget().hasCapacity()) {
+                return shard;
+            }
+        }
+        return shards.get(start);
+    }
+
+    /**
+     * Blocks until at least one shard's request budget has room for another request.
+     */
+    public void awaitCapacity() throws InterruptedException {
+        while (shards.stream().noneMatch(shard -> shard.rateBudget().hasCapacity())) {
+            final var waitNanos = shards.stream()
+                    .mapToLong(shard -> shard.rateBudget().nanosUntilCapacity())
+                    .min()
+                    .orElse(0);
+            log.debug("All upstream request budgets spent, waiting {} ms", TimeUnit.NANOSECONDS.toMillis(waitNanos));
+            TimeUnit.NANOSECONDS.sleep(Math.max(1, waitNanos));
+        }
+    }
+
+    /**
+     * Runs {@code call} against every shard in {@code targets} in parallel and returns the results in shard order. The
+     * first failure, in shard order, is rethrown once all calls have finished.
+     */
+    public <T> List<T> scatter(List<UpstreamShard> targets, Function<UpstreamShard, T> call) {
+        if (targets.size() == 1) {
+            return Collections.singletonList(call.apply(targets.get(0)));
+        }
+        final var futures = targets.stream()
+                .map(shard ->
+                        CompletableFuture.supplyAsync(RequestTimings.propagate(() -> call.apply(shard)), executor))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .exceptionally(failure -> null)
+                .join();
+        final var results = new ArrayList<T>(targets.size());
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    private UpstreamShard owner(UUID id) {
+        final var entry = ring.ceilingEntry(mix(id.getMostSignificantBits() ^ id.getLeastSignificantBits()));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    private static long hash(String value) {
+        try {
+            final var digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            long hash = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                hash = (hash << 8) | (digest[i] & 0xFF);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // SplitMix64 finalizer, so sequential or clustered ids still spread evenly around the ring.
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,199 @@
+package com.reliaquest.api.stats;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.dto.EmployeeGroupAggregateDTO;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Headcount and salary aggregates per title or age band, computed over {@link EmployeeColumns}.
+ * <p>
+ * Rows are folded into primitive per-group accumulators; snapshots with more than {@code parallel-threshold}
+ * employees are split into {@code parallel-threshold}-sized ranges evaluated on the common fork-join pool and merged.
+ * Results are cached until the snapshot version changes. Employees without the grouping attribute are left out.
+ */
+@Slf4j
+@Component
+public class EmployeeAggregator {
+
+    public enum Grouping {
+        TITLE,
+        AGE_BAND
+    }
+
+    private final int parallelThreshold;
+    private final int ageBandWidth;
+
+    private Cached cached;
+
+    public EmployeeAggregator(
+            @Value("${com.reliaquest.employee.api.aggregates.parallel-threshold:50000}") int parallelThreshold,
+            @Value("${com.reliaquest.employee.api.aggregates.age-band-width:10}") int ageBandWidth) {
+        this.parallelThreshold = Math.max(1, parallelThreshold);
+        this.ageBandWidth = Math.max(1, ageBandWidth);
+    }
+
+    public List<EmployeeGroupAggregateDTO> aggregate(EmployeeSnapshot snapshot, Grouping grouping) {
+        final Cached current;
+        synchronized (this) {
+            // Aggregates of a newer snapshot than the caller's are still a valid answer.
+            if (cached == null || cached.columns.version() < snapshot.version()) {
+                cached = new Cached(EmployeeColumns.of(snapshot));
+            }
+            current = cached;
+        }
+        synchronized (current) {
+            return current.results.computeIfAbsent(grouping, ignored -> evaluate(current.columns, grouping));
+        }
+    }
+
+    /**
+     * Evaluates every grouping of {@code snapshot} ahead of the first request for it.
+     */
+    public void prepare(EmployeeSnapshot snapshot) {
+        for (Grouping grouping : Grouping.values()) {
+            aggregate(snapshot, grouping);
+        }
+    }
+
+    private List<EmployeeGroupAggregateDTO> evaluate(EmployeeColumns columns, Grouping grouping) {
+        final var started = System.nanoTime();
+        final var groupIds = grouping == Grouping.TITLE ? columns.titleIds() : ageBands(columns.ages());
+        final var groupCount = Arrays.stream(groupIds).max().orElse(EmployeeColumns.MISSING) + 1;
+        final var task = new AggregateTask(groupIds, columns.salaries(), groupCount, 0, columns.size());
+        final var accumulator =
+                columns.size() > parallelThreshold ? ForkJoinPool.commonPool().invoke(task) : task.invoke();
+
+        final var results = new ArrayList<EmployeeGroupAggregateDTO>();
+        for (int group = 0; group < groupCount; group++) {
+            if (accumulator.headcount[group] > 0) {
+                results.add(accumulator.toDTO(group, label(columns, grouping, group)));
+            }
+        }
+        if (grouping == Grouping.TITLE) {
+            results.sort(Comparator.comparing(EmployeeGroupAggregateDTO::getGroup));
+        }
+        log.debug(
+                "Aggregated {} employees by {} in {} us",
+                columns.size(),
+                grouping,
+                (System.nanoTime() - started) / 1_000);
+        return List.copyOf(results);
+    }
+
+    private int[] ageBands(int[] ages) {
+        final var bands = new int[ages.length];
+        for (int row = 0; row < ages.length; row++) {
+            bands[row] = ages[row] == EmployeeColumns.MISSING ? EmployeeColumns.MISSING : ages[row] / ageBandWidth;
+        }
+        return bands;
+    }
+
+    private String label(EmployeeColumns columns, Grouping grouping, int group) {
+        if (grouping == Grouping.TITLE) {
+            return columns.titles().get(group);
+        }
+        return group * ageBandWidth + "-" + ((group + 1) * ageBandWidth - 1);
+    }
+
+    private final class AggregateTask extends RecursiveTask<Accumulator> {
+        private final int[] groupIds;
+        private final int[] salaries;
+        private final int groupCount;
+        private final int from;
+        private final int to;
+
+        private AggregateTask(int[] groupIds, int[] salaries, int groupCount, int from, int to) {
+            this.groupIds = groupIds;
+            this.salaries = salaries;
+            this.groupCount = groupCount;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Accumulator compute() {
+            if (to - from > parallelThreshold) {
+                final var middle = (from + to) >>> 1;
+                final var left = new AggregateTask(groupIds, salaries, groupCount, from, middle);
+                left.fork();
+                final var right = new AggregateTask(groupIds, salaries, groupCount, middle, to).compute();
+                return left.join().merge(right);
+            }
+            final var accumulator = new Accumulator(groupCount);
+            for (int row = from; row < to; row++) {
+                if (groupIds[row] != EmployeeColumns.MISSING) {
+                    accumulator.add(groupIds[row], salaries[row]);
+                }
+            }
+            return accumulator;
+        }
+    }
+
+    private static final class Accumulator {
+        private final long[] headcount;
+        private final long[] salaryCount;
+        private final long[] salarySum;
+        private final int[] minSalary;
+        private final int[] maxSalary;
+
+        private Accumulator(int groupCount) {
+            headcount = new long[groupCount];
+            salaryCount = new long[groupCount];
+            salarySum = new long[groupCount];
+            minSalary = new int[groupCount];
+            maxSalary = new int[groupCount];
+            Arrays.fill(minSalary, Integer.MAX_VALUE);
+            Arrays.fill(maxSalary, Integer.MIN_VALUE);
+        }
+
+        private void add(int group, int salary) {
+            headcount[group]++;
+            if (salary != EmployeeColumns.MISSING) {
+                salaryCount[group]++;
+                salarySum[group] += salary;
+                minSalary[group] = Math.min(minSalary[group], salary);
+                maxSalary[group] = Math.max(maxSalary[group], salary);
+            }
+        }
+
+        private Accumulator merge(Accumulator other) {
+            for (int group = 0; group < headcount.length; group++) {
+                headcount[group] += other.headcount[group];
+                salaryCount[group] += other.salaryCount[group];
+                salarySum[group] += other.salarySum[group];
+                minSalary[group] = Math.min(minSalary[group], other.minSalary[group]);
+                maxSalary[group] = Math.max(maxSalary[group], other.maxSalary[group]);
+            }
+            return this;
+        }
+
+        private EmployeeGroupAggregateDTO toDTO(int group, String label) {
+            final var builder = EmployeeGroupAggregateDTO.builder().group(label).headcount(headcount[group]);
+            if (salaryCount[group] > 0) {
+                builder.minSalary(minSalary[group])
+                        .maxSalary(maxSalary[group])
+                        .averageSalary((double) salarySum[group] / salaryCount[group]);
+            }
+            return builder.build();
+        }
+    }
+
+    private static final class Cached {
+        private final EmployeeColumns columns;
+        private final Map<Grouping, List<EmployeeGroupAggregateDTO>> results = new EnumMap<>(Grouping.class);
+
+        private Cached(EmployeeColumns columns) {
+            this.columns = columns;
+        }
+    }
+}
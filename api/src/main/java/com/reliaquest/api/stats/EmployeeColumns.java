@@ -0,0 +1,49 @@
+package com.reliaquest.api.stats;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Column-oriented copy of an {@link EmployeeSnapshot}: salaries, ages and dictionary-encoded titles in primitive
+ * arrays, so analytics can scan hundreds of thousands of employees without touching the DTOs.
+ * <p>
+ * Missing values are stored as {@link #MISSING}.
+ *
+ * @param titles title dictionary, indexed by the values in {@code titleIds}
+ */
+public record EmployeeColumns(long version, int[] salaries, int[] ages, int[] titleIds, List<String> titles) {
+
+    public static final int MISSING = -1;
+
+    public static EmployeeColumns of(EmployeeSnapshot snapshot) {
+        final var employees = snapshot.employees();
+        final var salaries = new int[employees.size()];
+        final var ages = new int[employees.size()];
+        final var titleIds = new int[employees.size()];
+        final var titles = new ArrayList<String>();
+        final var titleIndex = new HashMap<String, Integer>();
+        for (int row = 0; row < employees.size(); row++) {
+            final EmployeeResponseDTO employee = employees.get(row);
+            salaries[row] = valueOrMissing(employee.getEmployeeSalary());
+            ages[row] = valueOrMissing(employee.getEmployeeAge());
+            titleIds[row] = employee.getEmployeeTitle() == null
+                    ? MISSING
+                    : titleIndex.computeIfAbsent(employee.getEmployeeTitle(), title -> {
+                        titles.add(title);
+                        return titles.size() - 1;
+                    });
+        }
+        return new EmployeeColumns(snapshot.version(), salaries, ages, titleIds, List.copyOf(titles));
+    }
+
+    public int size() {
+        return salaries.length;
+    }
+
+    private static int valueOrMissing(Integer value) {
+        return value == null || value < 0 ? MISSING : value;
+    }
+}
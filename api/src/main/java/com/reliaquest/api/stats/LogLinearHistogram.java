@@ -0,0 +1,147 @@
+package com.reliaquest.api.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HDR-style histogram of non-negative values with bounded relative error.
+ * <p>
+ * Each power of two is split into {@code 2^subBucketBits} equal buckets, so a value is known to within
+ * {@code 1 / 2^subBucketBits} of itself; quantiles report the bucket midpoint, halving that error. Rows of buckets are
+ * allocated on first use, keeping memory proportional to the range of values actually seen. Unlike sample-based
+ * sketches, counts can be decremented, so the histogram can follow a changing population, and two histograms with the
+ * same precision merge by adding counts.
+ */
+public class LogLinearHistogram {
+
+    private final int subBucketBits;
+    private final int subBuckets;
+    private final long[][] rows;
+    private long count;
+    private long sum;
+
+    public LogLinearHistogram(int subBucketBits) {
+        this.subBucketBits = subBucketBits;
+        this.subBuckets = 1 << subBucketBits;
+        this.rows = new long[64 - subBucketBits + 1][];
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long sum() {
+        return sum;
+    }
+
+    public void add(long value) {
+        update(value, 1);
+    }
+
+    public void remove(long value) {
+        update(value, -1);
+    }
+
+    public void merge(LogLinearHistogram other) {
+        if (other.subBucketBits != subBucketBits) {
+            throw new IllegalArgumentException("Cannot merge histograms of different precision");
+        }
+        for (int row = 0; row < rows.length; row++) {
+            if (other.rows[row] != null) {
+                final var target = row(row);
+                for (int index = 0; index < subBuckets; index++) {
+                    target[index] += other.rows[row][index];
+                }
+            }
+        }
+        count += other.count;
+        sum += other.sum;
+    }
+
+    /**
+     * Returns the value at {@code quantile} (0 to 1), or 0 if the histogram is empty.
+     */
+    public long quantile(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        final var target = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int row = 0; row < rows.length; row++) {
+            if (rows[row] == null) {
+                continue;
+            }
+            for (int index = 0; index < subBuckets; index++) {
+                seen += rows[row][index];
+                if (seen >= target) {
+                    return lowerBound(row, index) + (width(row) - 1) / 2;
+                }
+            }
+        }
+        throw new IllegalStateException("Histogram counts do not add up to " + count);
+    }
+
+    /**
+     * Returns the non-empty buckets, coarsened to {@code 2^displayBits} buckets per power of two.
+     */
+    public List<Bucket> buckets(int displayBits) {
+        final var shift = Math.max(0, subBucketBits - displayBits);
+        final var buckets = new ArrayList<Bucket>();
+        for (int row = 0; row < rows.length; row++) {
+            if (rows[row] == null) {
+                continue;
+            }
+            for (int group = 0; group < subBuckets; group += 1 << shift) {
+                long groupCount = 0;
+                for (int index = group; index < group + (1 << shift); index++) {
+                    groupCount += rows[row][index];
+                }
+                if (groupCount > 0) {
+                    final var from = lowerBound(row, group);
+                    buckets.add(new Bucket(from, from + (width(row) << shift) - 1, groupCount));
+                }
+            }
+        }
+        return buckets;
+    }
+
+    private void update(long value, int delta) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Histogram values must not be negative: " + value);
+        }
+        final int row;
+        final int index;
+        if (value < subBuckets) {
+            row = 0;
+            index = (int) value;
+        } else {
+            final var exponent = 63 - Long.numberOfLeadingZeros(value);
+            row = exponent - subBucketBits + 1;
+            index = (int) (value >>> (exponent - subBucketBits)) - subBuckets;
+        }
+        final var counts = row(row);
+        if (delta < 0 && counts[index] == 0) {
+            throw new IllegalStateException("Cannot remove value " + value + " that was never added");
+        }
+        counts[index] += delta;
+        count += delta;
+        sum += delta * value;
+    }
+
+    private long[] row(int row) {
+        if (rows[row] == null) {
+            rows[row] = new long[subBuckets];
+        }
+        return rows[row];
+    }
+
+    private long lowerBound(int row, int index) {
+        return row == 0 ? index : (long) (subBuckets + index) << (row - 1);
+    }
+
+    private static long width(int row) {
+        return row == 0 ? 1 : 1L << (row - 1);
+    }
+
+    public record Bucket(long from, long to, long count) {}
+}
@@ -0,0 +1,177 @@
+package com.reliaquest.api.stats;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotChangedEvent;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.dto.HistogramBucketDTO;
+import com.reliaquest.api.dto.SalaryDistributionDTO;
+import com.reliaquest.api.dto.SalaryStatsDTO;
+import com.reliaquest.api.service.IEmployeeService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Salary distribution overall and per title, kept in {@link LogLinearHistogram}s that are updated with the difference
+ * between consecutive employee snapshots rather than recomputed from the full list.
+ * <p>
+ * Quantiles are accurate to within 1% of the true salary. The response is built once per snapshot version. The
+ * histograms only hold non-negative values, so negative salaries upstream are left out and counted instead. Every row
+ * of the snapshot is counted, including rows without an id that the snapshot's id index skips.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalaryStatsService {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int DISPLAY_BUCKET_BITS = 2;
+
+    private final IEmployeeService employeeService;
+
+    private LogLinearHistogram overall = new LogLinearHistogram(SUB_BUCKET_BITS);
+    private Map<String, LogLinearHistogram> byTitle = new HashMap<>();
+    private long excludedNegativeSalaries;
+    private long appliedVersion;
+    private SalaryStatsDTO stats;
+
+    @EventListener
+    public synchronized void onSnapshotChanged(EmployeeSnapshotChangedEvent event) {
+        final var previous = event.previous();
+        if (previous != null && previous.version() == appliedVersion) {
+            applyDelta(previous, event.current());
+        } else if (event.current().version() > appliedVersion) {
+            rebuild(event.current());
+        }
+    }
+
+    /**
+     * Returns salary statistics for the current employee snapshot, restricted to {@code title} when given.
+     */
+    public SalaryStatsDTO getSalaryStats(String title) {
+        return getSalaryStats(employeeService.getEmployeeSnapshot(), title);
+    }
+
+    /**
+     * Returns salary statistics for {@code snapshot}, or for a newer snapshot already applied.
+     */
+    public SalaryStatsDTO getSalaryStats(EmployeeSnapshot snapshot, String title) {
+        final SalaryStatsDTO current;
+        synchronized (this) {
+            if (snapshot.version() > appliedVersion) {
+                rebuild(snapshot);
+            }
+            if (stats == null || stats.getSnapshotVersion() != appliedVersion) {
+                stats = toDTO();
+            }
+            current = stats;
+        }
+        if (title == null) {
+            return current;
+        }
+        final var distribution = current.getByTitle().get(title);
+        return SalaryStatsDTO.builder()
+                .snapshotVersion(current.getSnapshotVersion())
+                .excludedNegativeSalaries(current.getExcludedNegativeSalaries())
+                .overall(current.getOverall())
+                .byTitle(distribution == null ? Map.of() : Map.of(title, distribution))
+                .build();
+    }
+
+    // Diffs the employee lists rather than the id index, so rows without an id, or sharing one with an earlier row,
+    // are counted here the same way the full rebuild counts them.
+    private void applyDelta(EmployeeSnapshot previous, EmployeeSnapshot current) {
+        final var removed = new HashMap<EmployeeResponseDTO, Integer>();
+        previous.employees().forEach(employee -> removed.merge(employee, 1, Integer::sum));
+        final var added = new ArrayList<EmployeeResponseDTO>();
+        for (final var employee : current.employees()) {
+            final var count = removed.get(employee);
+            if (count == null) {
+                added.add(employee);
+            } else if (count == 1) {
+                removed.remove(employee);
+            } else {
+                removed.put(employee, count - 1);
+            }
+        }
+        removed.forEach((employee, count) -> {
+            for (int i = 0; i < count; i++) {
+                remove(employee);
+            }
+        });
+        added.forEach(this::add);
+        appliedVersion = current.version();
+        log.debug("Applied salary stats delta up to snapshot version {}", appliedVersion);
+    }
+
+    private void rebuild(EmployeeSnapshot snapshot) {
+        overall = new LogLinearHistogram(SUB_BUCKET_BITS);
+        byTitle = new HashMap<>();
+        excludedNegativeSalaries = 0;
+        snapshot.employees().forEach(this::add);
+        appliedVersion = snapshot.version();
+        log.debug("Rebuilt salary stats for snapshot version {}", appliedVersion);
+    }
+
+    private void add(EmployeeResponseDTO employee) {
+        if (employee.getEmployeeSalary() == null) {
+            return;
+        }
+        if (employee.getEmployeeSalary() < 0) {
+            excludedNegativeSalaries++;
+            return;
+        }
+        overall.add(employee.getEmployeeSalary());
+        if (employee.getEmployeeTitle() != null) {
+            byTitle.computeIfAbsent(employee.getEmployeeTitle(), ignored -> new LogLinearHistogram(SUB_BUCKET_BITS))
+                    .add(employee.getEmployeeSalary());
+        }
+    }
+
+    private void remove(EmployeeResponseDTO employee) {
+        if (employee.getEmployeeSalary() == null) {
+            return;
+        }
+        if (employee.getEmployeeSalary() < 0) {
+            excludedNegativeSalaries--;
+            return;
+        }
+        overall.remove(employee.getEmployeeSalary());
+        final var histogram = byTitle.get(employee.getEmployeeTitle());
+        if (histogram != null) {
+            histogram.remove(employee.getEmployeeSalary());
+            if (histogram.count() == 0) {
+                byTitle.remove(employee.getEmployeeTitle());
+            }
+        }
+    }
+
+    private SalaryStatsDTO toDTO() {
+        final var distributions = new TreeMap<String, SalaryDistributionDTO>();
+        byTitle.forEach((title, histogram) -> distributions.put(title, toDTO(histogram)));
+        return SalaryStatsDTO.builder()
+                .snapshotVersion(appliedVersion)
+                .excludedNegativeSalaries(excludedNegativeSalaries)
+                .overall(toDTO(overall))
+                .byTitle(distributions)
+                .build();
+    }
+
+    private static SalaryDistributionDTO toDTO(LogLinearHistogram histogram) {
+        return SalaryDistributionDTO.builder()
+                .count(histogram.count())
+                .mean(histogram.count() == 0 ? 0 : (double) histogram.sum() / histogram.count())
+                .median(histogram.quantile(0.5))
+                .p90(histogram.quantile(0.9))
+                .p99(histogram.quantile(0.99))
+                .histogram(histogram.buckets(DISPLAY_BUCKET_BITS).stream()
+                        .map(bucket -> new HistogramBucketDTO(bucket.from(), bucket.to(), bucket.count()))
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.reliaquest.api.timing;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.employee.Compute")
+@Label("Employee Computation")
+@Description("In-memory pass over employees, such as a sort, filter, aggregation or query")
+@Category({"Employee API"})
+@StackTrace(false)
+class ComputeEvent extends jdk.jfr.Event {
+
+    @Label("Computation")
+    String computation;
+
+    @Label("Employees")
+    int employees;
+}
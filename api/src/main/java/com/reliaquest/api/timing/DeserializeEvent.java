@@ -0,0 +1,23 @@
+package com.reliaquest.api.timing;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.employee.Deserialize")
+@Label("Upstream Response Binding")
+@Description("Reading and binding a mock server JSON response")
+@Category({"Employee API", "Upstream"})
+@StackTrace(false)
+class DeserializeEvent extends jdk.jfr.Event {
+
+    @Label("Type")
+    String type;
+
+    @Label("Content Length")
+    @DataAmount
+    long contentLength;
+}
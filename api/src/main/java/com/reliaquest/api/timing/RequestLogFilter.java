@@ -0,0 +1,75 @@
+package com.reliaquest.api.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Logs a sample of requests as one {@code key=value} line each on the {@value #LOGGER_NAME} logger: a
+ * {@code sample-rate} share of all requests, plus every request that failed with a server error or took at least
+ * {@code slow-threshold}. Requests that are not logged cost a random draw and two clock reads; nothing is formatted or
+ * allocated for them.
+ */
+@Component
+@ConditionalOnProperty(
+        prefix = "com.reliaquest.employee.api.request-log",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+// Outermost, so requests rejected by the rate and concurrency limits are logged too.
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLogFilter extends OncePerRequestFilter {
+
+    static final String LOGGER_NAME = "com.reliaquest.api.requests";
+    private static final Logger REQUEST_LOG = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public RequestLogFilter(
+            @Value("${com.reliaquest.employee.api.request-log.sample-rate:0.01}") double sampleRate,
+            @Value("${com.reliaquest.employee.api.request-log.slow-threshold:1s}") Duration slowThreshold) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!REQUEST_LOG.isInfoEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        final var sampled = ThreadLocalRandom.current().nextDouble() < sampleRate;
+        final var started = System.nanoTime();
+        var status = 500;
+        try {
+            chain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            final var elapsed = System.nanoTime() - started;
+            final var slow = elapsed >= slowThresholdNanos;
+            if (sampled || slow || status >= 500) {
+                REQUEST_LOG.info(
+                        "method={} path={} status={} duration_ms={} reason={}",
+                        request.getMethod(),
+                        request.getRequestURI(),
+                        status,
+                        Math.round(elapsed / 100_000.0) / 10.0,
+                        status >= 500 ? "error" : slow ? "slow" : "sampled");
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.reliaquest.api.timing;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Where the time of one api request went, split into {@link Phase phases}, and the JFR events behind them.
+ * <p>
+ * A request's timings are bound to the thread serving it by {@link ServerTimingFilter}. Work handed to other threads,
+ * such as shard fan-out and hedged upstream calls, is {@link #propagate(Supplier) propagated} so it is still counted;
+ * phases of parallel calls are therefore summed and can add up to more than the request took. Every phase is also
+ * emitted as a JFR event in the {@code Employee API} category, whether or not a request is being timed.
+ * <p>
+ * Phases do not overlap within one call: binding an upstream response body happens inside the upstream call, but is
+ * counted as {@code deserialize} only and taken out of that call's {@code upstream} time. JFR events do nest, so an
+ * {@code UpstreamCall} event spans the {@code Deserialize} events of its response.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    // Deserialization time spent within the enclosing upstream call on this thread.
+    private static final ThreadLocal<AtomicLong> UPSTREAM_DESERIALIZE = new ThreadLocal<>();
+
+    private final long startedNanos = System.nanoTime();
+    private final AtomicLongArray nanos = new AtomicLongArray(Phase.values().length);
+
+    /**
+     * Binds fresh timings to the current thread until {@link #close()}.
+     */
+    static RequestTimings open() {
+        final var timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Wraps {@code task} so it runs with the caller's timings bound, for tasks handed to another thread. Tasks handed
+     * off within an upstream call, such as hedged attempts, also stay part of that call.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        final var timings = CURRENT.get();
+        if (timings == null) {
+            return task;
+        }
+        final var upstreamDeserialize = UPSTREAM_DESERIALIZE.get();
+        return () -> {
+            final var previous = CURRENT.get();
+            final var previousUpstreamDeserialize = UPSTREAM_DESERIALIZE.get();
+            CURRENT.set(timings);
+            set(UPSTREAM_DESERIALIZE, upstreamDeserialize);
+            try {
+                return task.get();
+            } finally {
+                set(CURRENT, previous);
+                set(UPSTREAM_DESERIALIZE, previousUpstreamDeserialize);
+            }
+        };
+    }
+
+    /**
+     * Runs one upstream request of {@code operation} against {@code shard}.
+     */
+    public static <T> T upstreamCall(String operation, String shard, Supplier<T> call) {
+        final var event = new UpstreamCallEvent();
+        event.begin();
+        final var started = System.nanoTime();
+        final var deserialized = new AtomicLong();
+        final var enclosing = UPSTREAM_DESERIALIZE.get();
+        UPSTREAM_DESERIALIZE.set(deserialized);
+        var outcome = "ok";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            set(UPSTREAM_DESERIALIZE, enclosing);
+            record(Phase.UPSTREAM, Math.max(0, System.nanoTime() - started - deserialized.get()));
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.shard = shard;
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Sleeps {@code delayMillis} before retry {@code attempt} of a throttled upstream {@code operation}.
+     */
+    public static void sleepBeforeRetry(String operation, int attempt, long delayMillis) throws InterruptedException {
+        final var event = new RetryWaitEvent();
+        event.begin();
+        final var started = System.nanoTime();
+        try {
+            Thread.sleep(delayMillis);
+        } finally {
+            record(Phase.RETRY_WAIT, System.nanoTime() - started);
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.attempt = attempt;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Runs {@code computation}, an in-memory pass over {@code employees} employees, for example a sort or aggregation.
+     */
+    public static <T> T compute(String name, int employees, Supplier<T> computation) {
+        final var event = new ComputeEvent();
+        event.begin();
+        final var started = System.nanoTime();
+        try {
+            return computation.get();
+        } finally {
+            record(Phase.COMPUTE, System.nanoTime() - started);
+            event.end();
+            if (event.shouldCommit()) {
+                event.computation = name;
+                event.employees = employees;
+                event.commit();
+            }
+        }
+    }
+
+    static void record(Phase phase, long elapsedNanos) {
+        final var timings = CURRENT.get();
+        if (timings != null) {
+            timings.nanos.addAndGet(phase.ordinal(), elapsedNanos);
+        }
+        if (phase == Phase.DESERIALIZE) {
+            final var upstreamDeserialize = UPSTREAM_DESERIALIZE.get();
+            if (upstreamDeserialize != null) {
+                upstreamDeserialize.addAndGet(elapsedNanos);
+            }
+        }
+    }
+
+    private static <T> void set(ThreadLocal<T> threadLocal, T value) {
+        if (value != null) {
+            threadLocal.set(value);
+        } else {
+            threadLocal.remove();
+        }
+    }
+
+    long nanos(Phase phase) {
+        return nanos.get(phase.ordinal());
+    }
+
+    /**
+     * Formats the phases seen so far and the elapsed time as a {@code Server-Timing} header value, in milliseconds,
+     * e.g. {@code upstream;dur=41.7, compute;dur=0.3, total;dur=43.2}.
+     */
+    String toServerTiming() {
+        final var header = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            if (nanos(phase) > 0) {
+                appendMetric(header, phase.metricName, nanos(phase));
+                header.append(", ");
+            }
+        }
+        appendMetric(header, "total", System.nanoTime() - startedNanos);
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long elapsedNanos) {
+        header.append(name)
+                .append(";dur=")
+                .append(String.format(Locale.ROOT, "%.1f", elapsedNanos / (double) TimeUnit.MILLISECONDS.toNanos(1)));
+    }
+
+    enum Phase {
+        UPSTREAM("upstream"),
+        RETRY_WAIT("retry-wait"),
+        DESERIALIZE("deserialize"),
+        COMPUTE("compute");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.reliaquest.api.timing;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.employee.RetryWait")
+@Label("Upstream Retry Wait")
+@Description("Backoff sleep after a mock server answered 429 Too Many Requests")
+@Category({"Employee API", "Upstream"})
+@StackTrace(false)
+class RetryWaitEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Attempt")
+    int attempt;
+}
@@ -0,0 +1,102 @@
+package com.reliaquest.api.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Times each employee endpoint request with {@link RequestTimings} and reports the breakdown in a {@code Server-Timing}
+ * response header. The header is added when the response body is about to be written, since headers cannot be
+ * changed afterwards, so it covers everything up to serializing the response.
+ */
+@Component
+@ConditionalOnProperty(
+        prefix = "com.reliaquest.employee.api.server-timing",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+// Inside the rate and concurrency limits, so only admitted requests are timed.
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING_HEADER = "Server-Timing";
+    private static final String BASE_PATH = "/api/v1/employee";
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI()
+                .substring(request.getContextPath().length())
+                .startsWith(BASE_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final var timings = RequestTimings.open();
+        final var timedResponse = new ServerTimingResponse(response, timings);
+        try {
+            chain.doFilter(request, timedResponse);
+        } finally {
+            timedResponse.addServerTiming();
+            timings.close();
+        }
+    }
+
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTimings timings;
+        private boolean added;
+
+        private ServerTimingResponse(HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.timings = timings;
+        }
+
+        private void addServerTiming() {
+            if (!added && !isCommitted()) {
+                added = true;
+                addHeader(SERVER_TIMING_HEADER, timings.toServerTiming());
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int status, String message) throws IOException {
+            addServerTiming();
+            super.sendError(status, message);
+        }
+
+        @Override
+        public void sendError(int status) throws IOException {
+            addServerTiming();
+            super.sendError(status);
+        }
+    }
+}
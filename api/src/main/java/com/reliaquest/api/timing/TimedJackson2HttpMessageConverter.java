@@ -0,0 +1,40 @@
+package com.reliaquest.api.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.timing.RequestTimings.Phase;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Jackson converter for upstream responses that times JSON binding as the {@code deserialize} phase, which is taken out
+ * of the enclosing upstream call's time. The response body is streamed, so the time includes reading whatever part of
+ * it has not arrived yet.
+ */
+public class TimedJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        final var event = new DeserializeEvent();
+        event.begin();
+        final var started = System.nanoTime();
+        try {
+            return super.read(type, contextClass, inputMessage);
+        } finally {
+            RequestTimings.record(Phase.DESERIALIZE, System.nanoTime() - started);
+            event.end();
+            if (event.shouldCommit()) {
+                event.type = type.getTypeName();
+                event.contentLength = inputMessage.getHeaders().getContentLength();
+                event.commit();
+            }
+        }
+    }
+}
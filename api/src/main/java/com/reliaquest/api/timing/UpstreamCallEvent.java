@@ -0,0 +1,25 @@
+package com.reliaquest.api.timing;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reliaquest.employee.UpstreamCall")
+@Label("Upstream Call")
+@Description("One request to a mock server, including circuit breaker, bulkhead, timeout and hedging")
+@Category({"Employee API", "Upstream"})
+@StackTrace(false)
+class UpstreamCallEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Shard")
+    String shard;
+
+    @Label("Outcome")
+    @Description("ok, or the simple name of the exception the call failed with")
+    String outcome;
+}
@@ -0,0 +1,136 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.service.IEmployeeService;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeSnapshotCheckpointerTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private IEmployeeService employeeService;
+
+    @Test
+    void restore_ShouldLoadLastCheckpointWithItsVersion() {
+        List<Object> events = new ArrayList<>();
+        EmployeeSnapshotCache previousRun = new EmployeeSnapshotCache(event -> {});
+        previousRun.publish(List.of(employee("John Doe", 100000)));
+        previousRun.publish(List.of(employee("John Doe", 100000), employee("Jane Roe", null)));
+        checkpointer(previousRun).checkpoint();
+
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(events::add);
+        checkpointer(cache).restore();
+
+        EmployeeSnapshot restored = cache.current().orElseThrow();
+        assertEquals(2, restored.version());
+        assertEquals(
+                previousRun.current().orElseThrow().fetchedAt().toEpochMilli(),
+                restored.fetchedAt().toEpochMilli());
+        assertEquals(previousRun.current().orElseThrow().employees(), restored.employees());
+        assertEquals(1, events.size());
+        assertEquals(2, cache.publish(restored.employees()).version());
+    }
+
+    @Test
+    void afterSingletonsInstantiated_ShouldRestoreWithoutCallingUpstream() {
+        EmployeeSnapshotCache previousRun = new EmployeeSnapshotCache(event -> {});
+        previousRun.publish(List.of(employee("John Doe", 100000)));
+        checkpointer(previousRun).checkpoint();
+
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(event -> {});
+        checkpointer(cache).afterSingletonsInstantiated();
+
+        assertEquals(1, cache.current().orElseThrow().version());
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void restore_WhenCheckpointCorrupt_ShouldStartCold() throws Exception {
+        Files.write(directory.resolve("snapshot.bin"), new byte[64]);
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(event -> {});
+
+        checkpointer(cache).restore();
+
+        assertTrue(cache.current().isEmpty());
+    }
+
+    @Test
+    void checkpoint_ShouldOnlyWriteChangedVersions() throws Exception {
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(event -> {});
+        EmployeeSnapshotCheckpointer checkpointer = checkpointer(cache);
+        Path file = directory.resolve("snapshot.bin");
+
+        checkpointer.checkpoint();
+        assertFalse(Files.exists(file));
+
+        cache.publish(List.of(employee("John Doe", 100000)));
+        checkpointer.checkpoint();
+        Files.delete(file);
+        checkpointer.checkpoint();
+
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void revalidate_ShouldRefreshFromUpstreamAndSurviveFailures() {
+        when(employeeService.refreshEmployeeSnapshot()).thenThrow(new IllegalStateException("upstream down"));
+
+        checkpointer(new EmployeeSnapshotCache(event -> {})).revalidate();
+
+        verify(employeeService).refreshEmployeeSnapshot();
+    }
+
+    @Test
+    void startCheckpointing_WhenBackgroundRefreshIsEnabled_ShouldLeaveRevalidationToIt() throws Exception {
+        EmployeeSnapshotCheckpointer checkpointer = checkpointer(new EmployeeSnapshotCache(event -> {}), true);
+
+        checkpointer.startCheckpointing();
+        checkpointer.shutdown();
+
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void startCheckpointing_WhenBackgroundRefreshIsDisabled_ShouldRevalidate() throws Exception {
+        EmployeeSnapshotCheckpointer checkpointer = checkpointer(new EmployeeSnapshotCache(event -> {}));
+
+        checkpointer.startCheckpointing();
+
+        verify(employeeService, timeout(5_000)).refreshEmployeeSnapshot();
+        checkpointer.shutdown();
+    }
+
+    private EmployeeSnapshotCheckpointer checkpointer(EmployeeSnapshotCache cache) {
+        return checkpointer(cache, false);
+    }
+
+    private EmployeeSnapshotCheckpointer checkpointer(EmployeeSnapshotCache cache, boolean backgroundRefresh) {
+        return new EmployeeSnapshotCheckpointer(
+                cache, employeeService, directory.resolve("snapshot.bin"), Duration.ofMinutes(1), backgroundRefresh);
+    }
+
+    private static EmployeeResponseDTO employee(String name, Integer salary) {
+        return EmployeeResponseDTO.builder()
+                .id(UUID.randomUUID())
+                .employeeName(name)
+                .employeeSalary(salary)
+                .employeeTitle("Engineer")
+                .build();
+    }
+}
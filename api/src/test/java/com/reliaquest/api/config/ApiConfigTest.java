@@ -0,0 +1,32 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.timing.TimedJackson2HttpMessageConverter;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+class ApiConfigTest {
+
+    private final ApiConfig apiConfig = new ApiConfig();
+
+    @Test
+    void restTemplate_ShouldBindJsonWithApplicationObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(apiConfig.blackbirdModule());
+
+        var converters = apiConfig
+                .restTemplate(objectMapper, HttpClient.Version.HTTP_2, Duration.ofSeconds(2), Duration.ofSeconds(10))
+                .getMessageConverters()
+                .stream()
+                .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+                .map(MappingJackson2HttpMessageConverter.class::cast)
+                .toList();
+
+        assertEquals(1, converters.size());
+        assertInstanceOf(TimedJackson2HttpMessageConverter.class, converters.get(0));
+        assertSame(objectMapper, converters.get(0).getObjectMapper());
+    }
+}
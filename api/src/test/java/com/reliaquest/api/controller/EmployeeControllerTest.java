@@ -3,9 +3,19 @@ package com.reliaquest.api.controller;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeListBodyCache;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.dto.EmployeeGroupAggregateDTO;
+import com.reliaquest.api.dto.EmployeeQueryDTO;
+import com.reliaquest.api.dto.EmployeeQueryResultDTO;
 import com.reliaquest.api.dto.EmployeeRequestDTO;
 import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.dto.SalaryStatsDTO;
 import com.reliaquest.api.service.EmployeeServiceImpl;
+import com.reliaquest.api.stats.SalaryStatsService;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -15,16 +25,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeControllerTest {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     @Mock
     private EmployeeServiceImpl employeeService;
 
+    @Mock
+    private SalaryStatsService salaryStatsService;
+
+    @Spy
+    private EmployeeListBodyCache listBodyCache =
+            new EmployeeListBodyCache(OBJECT_MAPPER, false, DataSize.ofKilobytes(2));
+
     @InjectMocks
     private EmployeeController employeeController;
 
@@ -42,18 +63,21 @@ class EmployeeControllerTest {
     }
 
     @Test
-    void getAllEmployees_ShouldReturnListOfEmployees() {
+    void getAllEmployees_ShouldReturnListOfEmployees() throws Exception {
         // Arrange
         List<EmployeeResponseDTO> expectedEmployees = Arrays.asList(sampleEmployee);
-        when(employeeService.getAllEmployees()).thenReturn(expectedEmployees);
+        when(employeeService.getLatestEmployeeSnapshot())
+                .thenReturn(EmployeeSnapshot.of(1, expectedEmployees, Instant.now()));
 
         // Act
-        ResponseEntity<List<EmployeeResponseDTO>> response = employeeController.getAllEmployees();
+        ResponseEntity<byte[]> response = employeeController.getAllEmployees(null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(expectedEmployees, response.getBody());
-        verify(employeeService).getAllEmployees();
+        assertEquals(
+                expectedEmployees,
+                OBJECT_MAPPER.readValue(response.getBody(), new TypeReference<List<EmployeeResponseDTO>>() {}));
+        verify(employeeService).getLatestEmployeeSnapshot();
     }
 
     @Test
@@ -185,4 +209,71 @@ class EmployeeControllerTest {
         assertNull(response.getBody());
         verify(employeeService).deleteEmployeeById(sampleUUID);
     }
+
+    @Test
+    void getSalaryStats_ShouldReturnStatsForTitle() {
+        // Arrange
+        SalaryStatsDTO expectedStats =
+                SalaryStatsDTO.builder().snapshotVersion(3).build();
+        when(salaryStatsService.getSalaryStats("Engineer")).thenReturn(expectedStats);
+
+        // Act
+        ResponseEntity<SalaryStatsDTO> response = employeeController.getSalaryStats("Engineer");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expectedStats, response.getBody());
+        verify(salaryStatsService).getSalaryStats("Engineer");
+    }
+
+    @Test
+    void getAggregatesByTitle_ShouldReturnAggregates() {
+        // Arrange
+        List<EmployeeGroupAggregateDTO> expectedAggregates = List.of(EmployeeGroupAggregateDTO.builder()
+                .group("Engineer")
+                .headcount(2)
+                .build());
+        when(employeeService.getAggregatesByTitle()).thenReturn(expectedAggregates);
+
+        // Act
+        ResponseEntity<List<EmployeeGroupAggregateDTO>> response = employeeController.getAggregatesByTitle();
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expectedAggregates, response.getBody());
+        verify(employeeService).getAggregatesByTitle();
+    }
+
+    @Test
+    void queryEmployees_ShouldReturnQueryResult() {
+        // Arrange
+        EmployeeQueryDTO query = EmployeeQueryDTO.builder().minSalary(50000).build();
+        EmployeeQueryResultDTO expectedResult = EmployeeQueryResultDTO.builder()
+                .employees(List.of(sampleEmployee))
+                .build();
+        when(employeeService.queryEmployees(query)).thenReturn(expectedResult);
+
+        // Act
+        ResponseEntity<EmployeeQueryResultDTO> response = employeeController.queryEmployees(query);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expectedResult, response.getBody());
+        verify(employeeService).queryEmployees(query);
+    }
+
+    @Test
+    void autocompleteEmployees_ShouldReturnMatchingEmployees() {
+        // Arrange
+        List<EmployeeResponseDTO> expectedEmployees = List.of(sampleEmployee);
+        when(employeeService.autocompleteEmployees("jo", 5)).thenReturn(expectedEmployees);
+
+        // Act
+        ResponseEntity<List<EmployeeResponseDTO>> response = employeeController.autocompleteEmployees("jo", 5);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expectedEmployees, response.getBody());
+        verify(employeeService).autocompleteEmployees("jo", 5);
+    }
 }
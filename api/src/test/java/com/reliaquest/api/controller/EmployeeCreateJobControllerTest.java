@@ -0,0 +1,99 @@
+package com.reliaquest.api.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.dto.EmployeeCreateJobDTO;
+import com.reliaquest.api.dto.EmployeeRequestDTO;
+import com.reliaquest.api.service.EmployeeCreatePipeline;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeCreateJobControllerTest {
+
+    @Mock
+    private EmployeeCreatePipeline pipeline;
+
+    @InjectMocks
+    private EmployeeCreateJobController jobController;
+
+    private EmployeeRequestDTO sampleEmployeeRequest;
+    private EmployeeCreateJobDTO sampleJob;
+
+    @BeforeEach
+    void setUp() {
+        sampleEmployeeRequest = new EmployeeRequestDTO();
+
+        sampleJob = EmployeeCreateJobDTO.builder()
+                .id(UUID.randomUUID())
+                .status(EmployeeCreateJobDTO.Status.QUEUED)
+                .build();
+    }
+
+    @Test
+    void createEmployee_WhenQueued_ShouldReturnAccepted() {
+        // Arrange
+        when(pipeline.submit(sampleEmployeeRequest)).thenReturn(Optional.of(sampleJob));
+
+        // Act
+        ResponseEntity<EmployeeCreateJobDTO> response = jobController.createEmployee(sampleEmployeeRequest);
+
+        // Assert
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals(sampleJob, response.getBody());
+        assertEquals(
+                "/api/v1/employee/jobs/" + sampleJob.getId(),
+                response.getHeaders().getLocation().toString());
+    }
+
+    @Test
+    void createEmployee_WhenQueueFull_ShouldReturnServiceUnavailable() {
+        // Arrange
+        when(pipeline.submit(sampleEmployeeRequest)).thenReturn(Optional.empty());
+
+        // Act
+        ResponseEntity<EmployeeCreateJobDTO> response = jobController.createEmployee(sampleEmployeeRequest);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void getJob_WhenJobExists_ShouldReturnJob() {
+        // Arrange
+        when(pipeline.getJob(sampleJob.getId())).thenReturn(Optional.of(sampleJob));
+
+        // Act
+        ResponseEntity<EmployeeCreateJobDTO> response =
+                jobController.getJob(sampleJob.getId().toString());
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(sampleJob, response.getBody());
+    }
+
+    @Test
+    void getJob_WhenJobDoesNotExist_ShouldReturnNotFound() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(pipeline.getJob(id)).thenReturn(Optional.empty());
+
+        // Act
+        ResponseEntity<EmployeeCreateJobDTO> response = jobController.getJob(id.toString());
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+}
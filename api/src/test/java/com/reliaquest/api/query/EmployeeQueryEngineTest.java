@@ -0,0 +1,222 @@
+package com.reliaquest.api.query;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.dto.EmployeeQueryDTO;
+import com.reliaquest.api.dto.EmployeeQueryResultDTO;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeQueryEngineTest {
+
+    private static final List<String> TITLES = List.of("Analyst", "Engineer", "Manager", "Director");
+
+    private final EmployeeQueryEngine queryEngine = new EmployeeQueryEngine(0.1, 20);
+    private EmployeeSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(7);
+        List<EmployeeResponseDTO> employees = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            employees.add(EmployeeResponseDTO.builder()
+                    .id(UUID.randomUUID())
+                    .employeeName("Employee " + i)
+                    .employeeSalary(30_000 + random.nextInt(170_000))
+                    .employeeAge(18 + random.nextInt(50))
+                    .employeeTitle(TITLES.get(random.nextInt(TITLES.size())))
+                    .build());
+        }
+        snapshot = EmployeeSnapshot.of(1, employees, Instant.now());
+    }
+
+    @Test
+    void execute_WithSelectiveSalaryRange_ShouldUseSalaryIndex() {
+        EmployeeQueryDTO query = EmployeeQueryDTO.builder()
+                .minSalary(100_000)
+                .maxSalary(110_000)
+                .sort("salary")
+                .limit(10)
+                .build();
+
+        EmployeeQueryResultDTO result = queryEngine.execute(snapshot, query);
+
+        assertEquals("salary-index", result.getPlan());
+        assertEquals(expected(query, e -> inRange(e.getEmployeeSalary(), 100_000, 110_000)), result.getEmployees());
+        assertTrue(result.isHasMore());
+    }
+
+    @Test
+    void execute_WithUnselectiveFilter_ShouldScanInSortOrder() {
+        EmployeeQueryDTO query = EmployeeQueryDTO.builder()
+                .minAge(20)
+                .title("Engineer")
+                .sort("age")
+                .order("desc")
+                .offset(40)
+                .limit(15)
+                .build();
+
+        EmployeeQueryResultDTO result = queryEngine.execute(snapshot, query);
+
+        assertEquals("age-order-scan", result.getPlan());
+        assertEquals(
+                expected(query, e -> e.getEmployeeAge() >= 20 && "Engineer".equals(e.getEmployeeTitle())),
+                result.getEmployees());
+    }
+
+    @Test
+    void execute_WithTitleAndSalarySort_ShouldSortTitleMatches() {
+        EmployeeQueryEngine selectiveEngine = new EmployeeQueryEngine(0.3, 20);
+        EmployeeQueryDTO query = EmployeeQueryDTO.builder()
+                .title("Manager")
+                .maxAge(40)
+                .sort("salary")
+                .order("desc")
+                .limit(100)
+                .build();
+
+        EmployeeQueryResultDTO result = selectiveEngine.execute(snapshot, query);
+
+        assertEquals("title-index+sort", result.getPlan());
+        assertEquals(
+                expected(query, e -> e.getEmployeeAge() <= 40 && "Manager".equals(e.getEmployeeTitle())),
+                result.getEmployees());
+    }
+
+    @Test
+    void execute_WithoutFilters_ShouldPageInSnapshotOrder() {
+        EmployeeQueryDTO query = EmployeeQueryDTO.builder().offset(1_990).build();
+
+        EmployeeQueryResultDTO result = queryEngine.execute(snapshot, query);
+
+        assertEquals("scan", result.getPlan());
+        assertEquals(snapshot.employees().subList(1_990, 2_000), result.getEmployees());
+        assertFalse(result.isHasMore());
+    }
+
+    @Test
+    void execute_WhenSortKeyMissing_ShouldPutThoseEmployeesLast() {
+        withMissingKeys();
+        for (String order : List.of("asc", "desc")) {
+            EmployeeQueryDTO query = EmployeeQueryDTO.builder()
+                    .sort("salary")
+                    .order(order)
+                    .offset(1_700)
+                    .limit(300)
+                    .build();
+
+            EmployeeQueryResultDTO result = queryEngine.execute(snapshot, query);
+
+            assertEquals("salary-order-scan", result.getPlan());
+            assertEquals(expected(query, e -> true), result.getEmployees());
+            assertNull(result.getEmployees().get(299).getEmployeeSalary());
+        }
+    }
+
+    @Test
+    void execute_WhenSortKeyMissingAfterIndexLookup_ShouldPutThoseEmployeesLast() {
+        withMissingKeys();
+        EmployeeQueryEngine selectiveEngine = new EmployeeQueryEngine(0.3, 20);
+        EmployeeQueryDTO query = EmployeeQueryDTO.builder()
+                .title("Manager")
+                .sort("age")
+                .order("desc")
+                .limit(1_000)
+                .build();
+
+        EmployeeQueryResultDTO result = selectiveEngine.execute(snapshot, query);
+
+        assertEquals("title-index+sort", result.getPlan());
+        assertEquals(expected(query, e -> "Manager".equals(e.getEmployeeTitle())), result.getEmployees());
+    }
+
+    @Test
+    void execute_WithoutSort_ShouldReturnSnapshotOrderFromIndexAndScanAlike() {
+        EmployeeQueryEngine scanningEngine = new EmployeeQueryEngine(0, 20);
+        EmployeeQueryDTO query = EmployeeQueryDTO.builder()
+                .minSalary(100_000)
+                .maxSalary(110_000)
+                .offset(5)
+                .limit(10)
+                .build();
+
+        EmployeeQueryResultDTO indexed = queryEngine.execute(snapshot, query);
+        EmployeeQueryResultDTO scanned = scanningEngine.execute(snapshot, query);
+
+        assertEquals("salary-index+sort", indexed.getPlan());
+        assertEquals("scan", scanned.getPlan());
+        assertEquals(scanned.getEmployees(), indexed.getEmployees());
+        assertEquals(scanned.isHasMore(), indexed.isHasMore());
+        assertEquals(
+                snapshot.employees().stream()
+                        .filter(e -> inRange(e.getEmployeeSalary(), 100_000, 110_000))
+                        .skip(5)
+                        .limit(10)
+                        .toList(),
+                indexed.getEmployees());
+    }
+
+    @Test
+    void execute_WithUnknownTitle_ShouldReturnNoEmployees() {
+        EmployeeQueryResultDTO result = queryEngine.execute(
+                snapshot, EmployeeQueryDTO.builder().title("Astronaut").build());
+
+        assertTrue(result.getEmployees().isEmpty());
+        assertFalse(result.isHasMore());
+    }
+
+    private List<EmployeeResponseDTO> expected(EmployeeQueryDTO query, Predicate<EmployeeResponseDTO> filter) {
+        Map<EmployeeResponseDTO, Integer> rows = new IdentityHashMap<>();
+        for (int row = 0; row < snapshot.employees().size(); row++) {
+            rows.put(snapshot.employees().get(row), row);
+        }
+        Function<EmployeeResponseDTO, Integer> key = "age".equals(query.getSort())
+                ? EmployeeResponseDTO::getEmployeeAge
+                : EmployeeResponseDTO::getEmployeeSalary;
+        Comparator<EmployeeResponseDTO> byKey = Comparator.comparing(key).thenComparing(rows::get);
+        Comparator<EmployeeResponseDTO> keyed = "desc".equals(query.getOrder()) ? byKey.reversed() : byKey;
+        // Employees without the key come last, in snapshot order.
+        Comparator<EmployeeResponseDTO> order = Comparator.comparing((EmployeeResponseDTO e) -> key.apply(e) == null)
+                .thenComparing((a, b) -> key.apply(a) == null ? rows.get(a) - rows.get(b) : keyed.compare(a, b));
+        int offset = query.getOffset() == null ? 0 : query.getOffset();
+        int limit = query.getLimit() == null ? 20 : query.getLimit();
+        return snapshot.employees().stream()
+                .filter(filter)
+                .sorted(order)
+                .skip(offset)
+                .limit(limit)
+                .toList();
+    }
+
+    private static boolean inRange(int value, int min, int max) {
+        return value >= min && value <= max;
+    }
+
+    private void withMissingKeys() {
+        List<EmployeeResponseDTO> employees = new ArrayList<>();
+        for (int row = 0; row < snapshot.employees().size(); row++) {
+            EmployeeResponseDTO employee = snapshot.employees().get(row);
+            employees.add(EmployeeResponseDTO.builder()
+                    .id(employee.getId())
+                    .employeeName(employee.getEmployeeName())
+                    .employeeTitle(employee.getEmployeeTitle())
+                    .employeeSalary(row % 10 == 0 ? null : employee.getEmployeeSalary())
+                    .employeeAge(row % 15 == 0 ? null : employee.getEmployeeAge())
+                    .build());
+        }
+        snapshot = EmployeeSnapshot.of(2, employees, Instant.now());
+    }
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.api.resilience;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.resilience.AdaptiveConcurrencyLimit.Priority;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST_NANOS = 10_000_000;
+    private static final long SLOW_NANOS = 100_000_000;
+
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 200, 0.75, 2, 0.9, 600);
+
+    @Test
+    void tryAcquire_ShouldReserveHeadroomForCachedRequests() {
+        assertEquals(15, acquireAll(Priority.UPSTREAM));
+        assertEquals(5, acquireAll(Priority.CACHED));
+        assertEquals(20, limit.getInFlight());
+    }
+
+    @Test
+    void release_WhenSaturatedAtSteadyLatency_ShouldGrowLimit() {
+        for (int round = 0; round < 5; round++) {
+            saturate(FAST_NANOS);
+        }
+
+        assertTrue(limit.getLimit() > 20, "limit " + limit.getLimit());
+        assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    void release_WhenLatencyRises_ShouldShrinkLimit() {
+        for (int round = 0; round < 5; round++) {
+            saturate(FAST_NANOS);
+        }
+        int grown = limit.getLimit();
+
+        saturate(SLOW_NANOS);
+
+        assertTrue(limit.getLimit() < grown / 2, grown + " -> " + limit.getLimit());
+    }
+
+    @Test
+    void release_WhenNotSaturated_ShouldKeepLimit() {
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limit.tryAcquire(Priority.UPSTREAM));
+            limit.release(Priority.UPSTREAM, i == 0 ? FAST_NANOS : SLOW_NANOS, false);
+        }
+
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    void release_WhenDropped_ShouldBackOffDownToMinimum() {
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limit.tryAcquire(Priority.UPSTREAM));
+            limit.release(Priority.UPSTREAM, FAST_NANOS, true);
+        }
+
+        assertEquals(4, limit.getLimit());
+        assertEquals(3, acquireAll(Priority.UPSTREAM));
+    }
+
+    private void saturate(long rttNanos) {
+        int acquired = acquireAll(Priority.UPSTREAM);
+        for (int i = 0; i < acquired; i++) {
+            limit.release(Priority.UPSTREAM, rttNanos, false);
+        }
+    }
+
+    private int acquireAll(Priority priority) {
+        int acquired = 0;
+        while (limit.tryAcquire(priority)) {
+            acquired++;
+        }
+        return acquired;
+    }
+}
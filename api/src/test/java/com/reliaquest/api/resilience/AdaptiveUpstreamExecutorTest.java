@@ -0,0 +1,119 @@
+package com.reliaquest.api.resilience;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+class AdaptiveUpstreamExecutorTest {
+
+    private AdaptiveUpstreamExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new AdaptiveUpstreamExecutor(
+                new SimpleMeterRegistry(),
+                new AdaptiveUpstreamExecutor.Settings(
+                        true, 0.99, 3, millis(100), millis(2000), 1, true, 0.95, millis(20), 2));
+        // A fast sample makes the hedge delay and timeout fall back to their minimums.
+        executor.execute("get", () -> "warm-up", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void execute_WhenPrimaryIsSlow_ShouldReturnHedgedResult() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result =
+                executor.execute("get", () -> calls.incrementAndGet() == 1 ? slow("primary") : "hedge", () -> true);
+
+        assertEquals("hedge", result);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void execute_WhenHedgeNotPermitted_ShouldTimeOut() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(
+                ResourceAccessException.class,
+                () -> executor.execute("get", () -> slow(String.valueOf(calls.incrementAndGet())), () -> false));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_WhenCallFails_ShouldRethrowOriginalException() {
+        HttpClientErrorException notFound = new HttpClientErrorException(HttpStatus.NOT_FOUND);
+
+        HttpClientErrorException thrown = assertThrows(
+                HttpClientErrorException.class,
+                () -> executor.execute(
+                        "get",
+                        () -> {
+                            throw notFound;
+                        },
+                        null));
+        assertSame(notFound, thrown);
+    }
+
+    @Test
+    void execute_WhenTimedOutCallsHoldEveryThread_ShouldFailFast() {
+        CountDownLatch upstream = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String> stuck = () -> {
+            calls.incrementAndGet();
+            try {
+                upstream.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "late";
+        };
+        try {
+            assertThrows(ResourceAccessException.class, () -> executor.execute("get", stuck, null));
+            assertThrows(ResourceAccessException.class, () -> executor.execute("get", stuck, null));
+
+            assertThrows(UpstreamUnavailableException.class, () -> executor.execute("get", stuck, null));
+            assertEquals(2, calls.get());
+        } finally {
+            upstream.countDown();
+        }
+    }
+
+    @Test
+    void timeoutNanos_ShouldBeClampedToMinimum() {
+        assertEquals(millis(100), executor.timeoutNanos("get"));
+    }
+
+    @Test
+    void timeoutNanos_WithoutSamples_ShouldUseMaximum() {
+        assertEquals(millis(2000), executor.timeoutNanos("list"));
+    }
+
+    private static String slow(String value) {
+        try {
+            Thread.sleep(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+
+    private static long millis(long millis) {
+        return Duration.ofMillis(millis).toNanos();
+    }
+}
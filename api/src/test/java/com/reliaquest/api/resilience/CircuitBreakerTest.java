@@ -0,0 +1,78 @@
+package com.reliaquest.api.resilience;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new CircuitBreaker("list", 2, Duration.ofSeconds(30), 1, clock::get);
+    }
+
+    @Test
+    void onFailure_WhenThresholdReached_ShouldOpen() {
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void onSuccess_ShouldResetConsecutiveFailures() {
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void tryAcquirePermission_AfterOpenDuration_ShouldAllowSingleTrialCall() {
+        openBreaker();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertTrue(breaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void trialCall_WhenSuccessful_ShouldClose() {
+        openBreaker();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        breaker.tryAcquirePermission();
+
+        breaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void trialCall_WhenFailed_ShouldReopen() {
+        openBreaker();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        breaker.tryAcquirePermission();
+
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    private void openBreaker() {
+        breaker.onFailure();
+        breaker.onFailure();
+    }
+}
@@ -0,0 +1,107 @@
+package com.reliaquest.api.resilience;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class ClientQuotasTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void tryConsume_ShouldChargeCostUntilWindowResets() {
+        ClientQuotas quotas = new ClientQuotas(meterRegistry, 10, Duration.ofSeconds(60), 100, List.of(), clock::get);
+
+        assertTrue(quotas.tryConsume("team-a", 5));
+        assertTrue(quotas.tryConsume("team-a", 4));
+        assertFalse(quotas.tryConsume("team-a", 5));
+        assertTrue(quotas.tryConsume("team-a", 1));
+        assertTrue(quotas.tryConsume("team-b", 10));
+        assertEquals(0, quotas.remaining("team-a"));
+
+        clock.addAndGet(Duration.ofSeconds(60).toNanos());
+
+        assertEquals(10, quotas.remaining("team-a"));
+        assertTrue(quotas.tryConsume("team-a", 10));
+    }
+
+    @Test
+    void tryConsume_ShouldCountOutcomesPerListedClientAndOthersTogether() {
+        ClientQuotas quotas =
+                new ClientQuotas(meterRegistry, 1, Duration.ofSeconds(60), 100, List.of("team-a"), clock::get);
+
+        quotas.tryConsume("team-a", 1);
+        quotas.tryConsume("team-a", 1);
+        quotas.tryConsume("team-b", 1);
+        quotas.tryConsume("team-c", 1);
+        quotas.tryConsume("team-c", 1);
+
+        assertEquals(1.0, count("team-a", "allowed"));
+        assertEquals(1.0, count("team-a", "rejected"));
+        assertEquals(2.0, count(ClientQuotas.OTHER_CLIENTS, "allowed"));
+        assertEquals(1.0, count(ClientQuotas.OTHER_CLIENTS, "rejected"));
+        assertNull(meterRegistry
+                .find(ClientQuotas.METRIC_NAME)
+                .tag("client", "team-b")
+                .counter());
+    }
+
+    @Test
+    void tryConsume_WhenManyClients_ShouldEvictLeastRecentlySeenAndKeepMetersFixed() {
+        ClientQuotas quotas = new ClientQuotas(meterRegistry, 10, Duration.ofSeconds(60), 32, List.of(), clock::get);
+
+        for (int i = 0; i < 1000; i++) {
+            quotas.tryConsume("client-" + i, 1);
+        }
+
+        assertTrue(quotas.trackedClients() <= 32, "tracked " + quotas.trackedClients());
+        assertEquals(2, meterRegistry.find(ClientQuotas.METRIC_NAME).meters().size());
+        assertEquals(1000.0, count(ClientQuotas.OTHER_CLIENTS, "allowed"));
+    }
+
+    @Test
+    void tryConsume_WhenConcurrent_ShouldNeverOverspend() throws Exception {
+        ClientQuotas quotas = new ClientQuotas(meterRegistry, 5000, Duration.ofSeconds(60), 100, List.of(), clock::get);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    int allowed = 0;
+                    for (int i = 0; i < 1000; i++) {
+                        if (quotas.tryConsume("team-a", 1)) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                }));
+            }
+            int allowed = 0;
+            for (Future<Integer> future : futures) {
+                allowed += future.get();
+            }
+
+            assertEquals(5000, allowed);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private double count(String client, String outcome) {
+        return meterRegistry
+                .get(ClientQuotas.METRIC_NAME)
+                .tag("client", client)
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+}
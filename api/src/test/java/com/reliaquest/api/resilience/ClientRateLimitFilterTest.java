@@ -0,0 +1,87 @@
+package com.reliaquest.api.resilience;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ClientRateLimitFilterTest {
+
+    private static final String CLIENT_HEADER = "X-Client-Id";
+
+    private final AtomicLong clock = new AtomicLong();
+    private ClientRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ClientQuotas quotas =
+                new ClientQuotas(new SimpleMeterRegistry(), 10, Duration.ofSeconds(30), 100, List.of(), clock::get);
+        filter = new ClientRateLimitFilter(quotas, CLIENT_HEADER, new ClientRateLimitFilter.Costs(5, 1, 2, 1));
+    }
+
+    @Test
+    void doFilter_WhenQuotaSpent_ShouldRejectOnlyThatClient() throws Exception {
+        assertEquals(200, filter(request("GET", "/api/v1/employee", "team-a")).getStatus());
+        assertEquals(
+                200,
+                filter(request("GET", "/api/v1/employee/search/John", "team-a")).getStatus());
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        MockHttpServletResponse rejected = filter(request("GET", "/api/v1/employee/stats", "team-a"));
+        MockHttpServletResponse other = filter(request("GET", "/api/v1/employee", "team-b"));
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("20", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals("0", rejected.getHeader(ClientRateLimitFilter.REMAINING_HEADER));
+        assertEquals(200, other.getStatus());
+        assertEquals("5", other.getHeader(ClientRateLimitFilter.REMAINING_HEADER));
+    }
+
+    @Test
+    void doFilter_WithoutClientHeader_ShouldKeyByRemoteAddress() throws Exception {
+        MockHttpServletRequest first = request("GET", "/api/v1/employee", null);
+        first.setRemoteAddr("10.0.0.1");
+        MockHttpServletRequest second = request("GET", "/api/v1/employee", null);
+        second.setRemoteAddr("10.0.0.1");
+        MockHttpServletRequest third = request("GET", "/api/v1/employee", null);
+        third.setRemoteAddr("10.0.0.1");
+
+        assertEquals(200, filter(first).getStatus());
+        assertEquals(200, filter(second).getStatus());
+        assertEquals(429, filter(third).getStatus());
+    }
+
+    @Test
+    void cost_ShouldChargeListsMoreThanLookups() {
+        String id = "/api/v1/employee/4a3a170b-22cd-4ac2-aad1-9bb5b34a1507";
+
+        assertEquals(5, filter.cost(request("GET", "/api/v1/employee", null)));
+        assertEquals(5, filter.cost(request("GET", "/api/v1/employee/topTenHighestEarningEmployeeNames", null)));
+        assertEquals(1, filter.cost(request("GET", id, null)));
+        assertEquals(2, filter.cost(request("DELETE", id, null)));
+        assertEquals(2, filter.cost(request("POST", "/api/v1/employee/jobs", null)));
+        assertEquals(1, filter.cost(request("GET", "/api/v1/employee/aggregates/byTitle", null)));
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        if (client != null) {
+            request.addHeader(CLIENT_HEADER, client);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,116 @@
+package com.reliaquest.api.resilience;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeViews;
+import com.reliaquest.api.cache.EmployeeViewsCache;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.resilience.AdaptiveConcurrencyLimit.Priority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmployeeViewsCache viewsCache = new EmployeeViewsCache();
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 4, 4, 0.5, 2, 0.9, 600);
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ConcurrencyLimitFilter(meterRegistry, viewsCache, limit, Duration.ofMillis(1500));
+    }
+
+    @Test
+    void doFilter_WhenUpstreamShareExhausted_ShouldRejectUpstreamButAdmitCached() throws Exception {
+        swapInViews();
+        limit.tryAcquire(Priority.UPSTREAM);
+        limit.tryAcquire(Priority.UPSTREAM);
+
+        MockHttpServletResponse rejected =
+                filter(new MockHttpServletRequest("DELETE", "/api/v1/employee/" + UUID.randomUUID()));
+        MockHttpServletResponse admitted = filter(request("/api/v1/employee/highestSalary"));
+
+        assertEquals(503, rejected.getStatus());
+        assertEquals("2", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(200, admitted.getStatus());
+        assertEquals(2, limit.getInFlight());
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("employee.ingress.concurrency.rejected")
+                        .tag("priority", "upstream")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    void doFilter_ShouldNotLimitRequestsOutsideEmployeeApi() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            limit.tryAcquire(Priority.CACHED);
+        }
+
+        assertEquals(200, filter(request("/actuator/health")).getStatus());
+    }
+
+    @Test
+    void priority_WhenViewsPresent_ShouldClassifyReadsAsCached() {
+        swapInViews();
+
+        assertEquals(Priority.CACHED, filter.priority(request("/api/v1/employee")));
+        assertEquals(Priority.CACHED, filter.priority(request("/api/v1/employee/search/John")));
+        assertEquals(Priority.CACHED, filter.priority(request("/api/v1/employee/stats")));
+        assertEquals(Priority.UPSTREAM, filter.priority(new MockHttpServletRequest("POST", "/api/v1/employee")));
+    }
+
+    @Test
+    void priority_WhenViewsPresent_ShouldClassifyReadsByIdByWhetherViewsHoldTheEmployee() {
+        EmployeeResponseDTO held = EmployeeResponseDTO.builder()
+                .id(UUID.randomUUID())
+                .employeeName("John Doe")
+                .build();
+        EmployeeResponseDTO deleted = EmployeeResponseDTO.builder()
+                .id(UUID.randomUUID())
+                .employeeName("Jane Roe")
+                .build();
+        swapInViews(held, deleted);
+        viewsCache.markDeleted(deleted.getId());
+
+        assertEquals(Priority.CACHED, filter.priority(request("/api/v1/employee/" + held.getId())));
+        assertEquals(Priority.CACHED, filter.priority(request("/api/v1/employee/" + deleted.getId())));
+        assertEquals(Priority.UPSTREAM, filter.priority(request("/api/v1/employee/" + UUID.randomUUID())));
+        assertEquals(Priority.CACHED, filter.priority(request("/api/v1/employee/topTenHighestEarningEmployeeNames")));
+    }
+
+    @Test
+    void priority_WhenNoViews_ShouldClassifyAllButJobsAsUpstream() {
+        assertEquals(Priority.UPSTREAM, filter.priority(request("/api/v1/employee")));
+        assertEquals(Priority.UPSTREAM, filter.priority(request("/api/v1/employee/aggregates/byTitle")));
+        assertEquals(Priority.CACHED, filter.priority(new MockHttpServletRequest("POST", "/api/v1/employee/jobs")));
+        assertEquals(Priority.CACHED, filter.priority(request("/api/v1/employee/jobs/" + UUID.randomUUID())));
+    }
+
+    private void swapInViews(EmployeeResponseDTO... employees) {
+        viewsCache.swap(EmployeeViews.of(EmployeeSnapshot.of(1, List.of(employees), Instant.now())));
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+}
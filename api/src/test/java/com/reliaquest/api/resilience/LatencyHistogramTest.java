@@ -0,0 +1,53 @@
+package com.reliaquest.api.resilience;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final LatencyHistogram histogram = new LatencyHistogram(Duration.ofMinutes(1), clock::get);
+
+    @Test
+    void percentileNanos_ShouldBeWithinBucketPrecision() {
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        long p95 = histogram.percentileNanos(0.95, 1).orElseThrow();
+
+        assertTrue(p95 >= TimeUnit.MILLISECONDS.toNanos(95), "p95 was " + p95);
+        assertTrue(p95 <= TimeUnit.MILLISECONDS.toNanos(95) * 1.125, "p95 was " + p95);
+    }
+
+    @Test
+    void percentileNanos_WithTooFewSamples_ShouldBeEmpty() {
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertTrue(histogram.percentileNanos(0.5, 2).isEmpty());
+    }
+
+    @Test
+    void percentileNanos_ShouldForgetSamplesOutsideWindow() {
+        histogram.record(TimeUnit.SECONDS.toNanos(5));
+        clock.addAndGet(Duration.ofMinutes(2).toNanos());
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(5));
+
+        long p99 = histogram.percentileNanos(0.99, 1).orElseThrow();
+
+        assertTrue(p99 < TimeUnit.MILLISECONDS.toNanos(6), "p99 was " + p99);
+    }
+
+    @Test
+    void bucketOf_ShouldRoundTripThroughUpperBound() {
+        for (long micros : new long[] {0, 7, 8, 15, 16, 17, 1_000, 123_456, 10_000_000}) {
+            int bucket = LatencyHistogram.bucketOf(micros);
+            assertTrue(LatencyHistogram.upperBound(bucket) >= micros);
+            assertTrue(bucket == 0 || LatencyHistogram.upperBound(bucket - 1) < micros);
+        }
+    }
+}
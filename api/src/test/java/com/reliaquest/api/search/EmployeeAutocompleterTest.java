@@ -0,0 +1,60 @@
+package com.reliaquest.api.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeAutocompleterTest {
+
+    private final EmployeeAutocompleter autocompleter = new EmployeeAutocompleter(3);
+
+    private final EmployeeResponseDTO johnSmith = employee("John Smith", 90_000);
+    private final EmployeeResponseDTO joanSmythe = employee("Joan Smythe", 120_000);
+    private final EmployeeResponseDTO joseAlvarez = employee("José Álvarez", 60_000);
+    private final EmployeeResponseDTO maryJones = employee("Mary Jones", 150_000);
+    private final EmployeeSnapshot snapshot =
+            EmployeeSnapshot.of(1, List.of(johnSmith, joanSmythe, joseAlvarez, maryJones), Instant.now());
+
+    @Test
+    void complete_ShouldRankWordStartMatchesBySalary() {
+        List<EmployeeResponseDTO> result = autocompleter.complete(snapshot, "Jo", 10);
+
+        assertEquals(List.of(maryJones, joanSmythe, johnSmith), result);
+    }
+
+    @Test
+    void complete_ShouldMatchWithinEdgesAndAcrossWords() {
+        assertEquals(List.of(joanSmythe, johnSmith), autocompleter.complete(snapshot, "sm", 10));
+        assertEquals(List.of(joanSmythe), autocompleter.complete(snapshot, "smy", 10));
+        assertEquals(List.of(johnSmith), autocompleter.complete(snapshot, "john s", 10));
+    }
+
+    @Test
+    void complete_ShouldIgnoreCaseAndAccents() {
+        assertEquals(List.of(joseAlvarez), autocompleter.complete(snapshot, "ALVA", 10));
+    }
+
+    @Test
+    void complete_ShouldApplyLimit() {
+        assertEquals(List.of(maryJones), autocompleter.complete(snapshot, "jo", 1));
+    }
+
+    @Test
+    void complete_WithoutMatches_ShouldReturnEmptyList() {
+        assertTrue(autocompleter.complete(snapshot, "zed", 10).isEmpty());
+        assertTrue(autocompleter.complete(snapshot, "  ", 10).isEmpty());
+    }
+
+    private static EmployeeResponseDTO employee(String name, int salary) {
+        return EmployeeResponseDTO.builder()
+                .id(UUID.randomUUID())
+                .employeeName(name)
+                .employeeSalary(salary)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.reliaquest.api.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class EmployeeSearchCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger searches = new AtomicInteger();
+
+    @Test
+    void get_ShouldServeRepeatedQueriesIgnoringCaseFromCache() {
+        EmployeeSearchCache cache = new EmployeeSearchCache(meterRegistry, DataSize.ofMegabytes(1));
+        List<EmployeeResponseDTO> result = List.of(employee("John Doe"));
+
+        assertEquals(result, cache.get(1, "John", search(result)));
+        assertEquals(result, cache.get(1, "JOHN", search(result)));
+        assertEquals(result, cache.get(1, "john", search(result)));
+
+        assertEquals(1, searches.get());
+        double hits = meterRegistry
+                .get(EmployeeSearchCache.METRIC_NAME + ".requests")
+                .tag("result", "hit")
+                .counter()
+                .count();
+        assertEquals(2, hits);
+        assertEquals(
+                2.0 / 3,
+                meterRegistry
+                        .get(EmployeeSearchCache.METRIC_NAME + ".hit.ratio")
+                        .gauge()
+                        .value(),
+                1e-9);
+    }
+
+    @Test
+    void get_WhenSnapshotVersionAdvances_ShouldSearchAgain() {
+        EmployeeSearchCache cache = new EmployeeSearchCache(meterRegistry, DataSize.ofMegabytes(1));
+        List<EmployeeResponseDTO> before = List.of(employee("John Doe"));
+        List<EmployeeResponseDTO> after = List.of(employee("John Doe"), employee("Johnny Roe"));
+
+        cache.get(1, "john", search(before));
+        assertEquals(after, cache.get(2, "john", search(after)));
+        // Searches of the superseded version are neither served from nor added to the cache.
+        assertEquals(before, cache.get(1, "john", search(before)));
+        assertEquals(after, cache.get(2, "john", search(after)));
+
+        assertEquals(3, searches.get());
+    }
+
+    @Test
+    void get_WhenFull_ShouldKeepFrequentlySearchedQueriesOverOneOffs() {
+        // Room for about one entry per stripe.
+        EmployeeSearchCache cache = new EmployeeSearchCache(meterRegistry, DataSize.ofBytes(16 * 200));
+        List<EmployeeResponseDTO> result = List.of(employee("John Doe"));
+        for (int round = 0; round < 100; round++) {
+            cache.get(1, "john", search(result));
+            for (int i = 0; i < 9; i++) {
+                cache.get(1, "one-off " + round + "-" + i, search(List.of()));
+            }
+        }
+        searches.set(0);
+
+        cache.get(1, "john", search(result));
+
+        assertEquals(0, searches.get());
+        assertTrue(cache.estimatedBytes() <= 16 * 200);
+    }
+
+    @Test
+    void get_WithZeroSize_ShouldNotCache() {
+        EmployeeSearchCache cache = new EmployeeSearchCache(meterRegistry, DataSize.ofBytes(0));
+
+        cache.get(1, "john", search(List.of()));
+        cache.get(1, "john", search(List.of()));
+
+        assertEquals(2, searches.get());
+    }
+
+    private Supplier<List<EmployeeResponseDTO>> search(List<EmployeeResponseDTO> result) {
+        return () -> {
+            searches.incrementAndGet();
+            return result;
+        };
+    }
+
+    private static EmployeeResponseDTO employee(String name) {
+        EmployeeResponseDTO employee = new EmployeeResponseDTO();
+        employee.setEmployeeName(name);
+        return employee;
+    }
+}
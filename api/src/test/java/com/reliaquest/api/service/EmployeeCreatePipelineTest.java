@@ -0,0 +1,186 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.dto.EmployeeCreateJobDTO;
+import com.reliaquest.api.dto.EmployeeRequestDTO;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeCreatePipelineTest {
+
+    @Mock
+    private IEmployeeService employeeService;
+
+    private EmployeeCreatePipeline pipeline;
+    private EmployeeRequestDTO sampleRequest;
+
+    @BeforeEach
+    void setUp() {
+        UpstreamShards shards = new UpstreamShards(
+                List.of("http://localhost"), () -> new UpstreamRateBudget(100, Duration.ofSeconds(30)));
+        pipeline = new EmployeeCreatePipeline(
+                employeeService, shards, 1, 10, Duration.ofHours(1), Duration.ofMillis(50), 3, Duration.ofSeconds(5));
+
+        sampleRequest = new EmployeeRequestDTO("John Doe", 100000, 30, "Engineer");
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pipeline.stop();
+    }
+
+    @Test
+    void submit_ShouldCreateEmployeeInBackground() throws InterruptedException {
+        EmployeeResponseDTO created = new EmployeeResponseDTO();
+        created.setId(UUID.randomUUID());
+        when(employeeService.tryCreateEmployee(sampleRequest)).thenReturn(Optional.of(created));
+        pipeline.start();
+
+        EmployeeCreateJobDTO job = pipeline.submit(sampleRequest).orElseThrow();
+
+        EmployeeCreateJobDTO finished = awaitCompletion(job.getId());
+        assertEquals(EmployeeCreateJobDTO.Status.SUCCEEDED, finished.getStatus());
+        assertEquals(created, finished.getEmployee());
+        assertNotNull(finished.getCompletedAt());
+    }
+
+    @Test
+    void submit_WhenUpstreamRejects_ShouldMarkJobFailed() throws InterruptedException {
+        when(employeeService.tryCreateEmployee(sampleRequest)).thenReturn(Optional.empty());
+        pipeline.start();
+
+        EmployeeCreateJobDTO job = pipeline.submit(sampleRequest).orElseThrow();
+
+        EmployeeCreateJobDTO finished = awaitCompletion(job.getId());
+        assertEquals(EmployeeCreateJobDTO.Status.FAILED, finished.getStatus());
+        assertNull(finished.getEmployee());
+        assertNotNull(finished.getError());
+    }
+
+    @Test
+    void submit_WhenUpstreamUnavailable_ShouldFailJobAndFlushRestOfBatch() throws InterruptedException {
+        EmployeeRequestDTO otherRequest = new EmployeeRequestDTO("Jane Doe", 90000, 40, "Manager");
+        EmployeeResponseDTO created = new EmployeeResponseDTO();
+        created.setId(UUID.randomUUID());
+        when(employeeService.tryCreateEmployee(sampleRequest))
+                .thenThrow(new UpstreamUnavailableException("Upstream circuit is open"));
+        when(employeeService.tryCreateEmployee(otherRequest)).thenReturn(Optional.of(created));
+        pipeline = new EmployeeCreatePipeline(
+                employeeService,
+                new UpstreamShards(
+                        List.of("http://localhost"), () -> new UpstreamRateBudget(100, Duration.ofSeconds(30))),
+                10,
+                10,
+                Duration.ofHours(1),
+                Duration.ofMillis(50),
+                3,
+                Duration.ofSeconds(5));
+
+        // Both jobs are queued before the worker starts, so they are flushed as one batch.
+        EmployeeCreateJobDTO failing = pipeline.submit(sampleRequest).orElseThrow();
+        EmployeeCreateJobDTO succeeding = pipeline.submit(otherRequest).orElseThrow();
+        pipeline.start();
+
+        EmployeeCreateJobDTO failed = awaitCompletion(failing.getId());
+        assertEquals(EmployeeCreateJobDTO.Status.FAILED, failed.getStatus());
+        assertEquals("Upstream circuit is open", failed.getError());
+        assertEquals(
+                EmployeeCreateJobDTO.Status.SUCCEEDED,
+                awaitCompletion(succeeding.getId()).getStatus());
+    }
+
+    @Test
+    void submit_WhenUpstreamThrottles_ShouldRetryJobAfterDelay() throws InterruptedException {
+        EmployeeResponseDTO created = new EmployeeResponseDTO();
+        created.setId(UUID.randomUUID());
+        when(employeeService.tryCreateEmployee(sampleRequest))
+                .thenThrow(new UpstreamThrottledException("Too many requests"))
+                .thenReturn(Optional.of(created));
+        pipeline.start();
+
+        EmployeeCreateJobDTO job = pipeline.submit(sampleRequest).orElseThrow();
+
+        EmployeeCreateJobDTO finished = awaitCompletion(job.getId());
+        assertEquals(EmployeeCreateJobDTO.Status.SUCCEEDED, finished.getStatus());
+        verify(employeeService, times(2)).tryCreateEmployee(sampleRequest);
+    }
+
+    @Test
+    void submit_WhenUpstreamKeepsThrottling_ShouldFailJobAfterMaxAttempts() throws InterruptedException {
+        when(employeeService.tryCreateEmployee(sampleRequest))
+                .thenThrow(new UpstreamThrottledException("Too many requests"));
+        pipeline.start();
+
+        EmployeeCreateJobDTO job = pipeline.submit(sampleRequest).orElseThrow();
+
+        EmployeeCreateJobDTO finished = awaitCompletion(job.getId());
+        assertEquals(EmployeeCreateJobDTO.Status.FAILED, finished.getStatus());
+        assertEquals("Upstream throttled the create 3 times", finished.getError());
+        verify(employeeService, times(3)).tryCreateEmployee(sampleRequest);
+    }
+
+    @Test
+    void stop_WhenJobsAreQueued_ShouldFlushThemFirst() throws InterruptedException {
+        EmployeeResponseDTO created = new EmployeeResponseDTO();
+        created.setId(UUID.randomUUID());
+        when(employeeService.tryCreateEmployee(sampleRequest)).thenReturn(Optional.of(created));
+        EmployeeCreateJobDTO job = pipeline.submit(sampleRequest).orElseThrow();
+        pipeline.start();
+
+        pipeline.stop();
+
+        assertEquals(
+                EmployeeCreateJobDTO.Status.SUCCEEDED,
+                pipeline.getJob(job.getId()).orElseThrow().getStatus());
+        assertTrue(pipeline.submit(sampleRequest).isEmpty());
+    }
+
+    @Test
+    void stop_WhenJobsCannotBeFlushed_ShouldMarkThemFailed() throws InterruptedException {
+        EmployeeCreateJobDTO job = pipeline.submit(sampleRequest).orElseThrow();
+
+        pipeline.stop();
+
+        EmployeeCreateJobDTO failed = pipeline.getJob(job.getId()).orElseThrow();
+        assertEquals(EmployeeCreateJobDTO.Status.FAILED, failed.getStatus());
+        assertEquals("Stopped before the employee was created", failed.getError());
+        assertNotNull(failed.getCompletedAt());
+    }
+
+    @Test
+    void submit_WhenQueueFull_ShouldReject() {
+        // Without a running worker the single queue slot stays occupied.
+        assertTrue(pipeline.submit(sampleRequest).isPresent());
+        assertTrue(pipeline.submit(sampleRequest).isEmpty());
+    }
+
+    @Test
+    void getJob_WhenUnknown_ShouldReturnEmpty() {
+        assertTrue(pipeline.getJob(UUID.randomUUID()).isEmpty());
+    }
+
+    private EmployeeCreateJobDTO awaitCompletion(UUID id) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            EmployeeCreateJobDTO job = pipeline.getJob(id).orElseThrow();
+            if (job.getCompletedAt() != null) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        return fail("Job " + id + " did not complete");
+    }
+}
@@ -5,29 +5,74 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.EmployeeViews;
+import com.reliaquest.api.cache.EmployeeViewsCache;
+import com.reliaquest.api.dto.EmployeeGroupAggregateDTO;
 import com.reliaquest.api.dto.EmployeeListResponse;
 import com.reliaquest.api.dto.EmployeeRequestDTO;
 import com.reliaquest.api.dto.EmployeeResponseDTO;
 import com.reliaquest.api.dto.SingleEmployeeResponse;
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.resilience.AdaptiveUpstreamExecutor;
+import com.reliaquest.api.resilience.UpstreamGuard;
+import com.reliaquest.api.search.EmployeeSearchCache;
+import com.reliaquest.api.stats.EmployeeAggregator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.*;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeServiceImplTest {
 
     private static final String BASE_URL = "http://test-api.com/employees";
+    private static final String SECOND_URL = "http://test-api-2.com/employees";
 
     @Mock
     private RestTemplate restTemplate;
 
+    @Spy
+    private UpstreamShards shards =
+            new UpstreamShards(List.of(BASE_URL), () -> new UpstreamRateBudget(5, Duration.ofSeconds(30)));
+
+    @Spy
+    private UpstreamGuard upstreamGuard =
+            new UpstreamGuard(new SimpleMeterRegistry(), 3, Duration.ofSeconds(30), 1, 10, Duration.ofMillis(100));
+
+    @Spy
+    private AdaptiveUpstreamExecutor upstreamExecutor = new AdaptiveUpstreamExecutor(
+            new SimpleMeterRegistry(),
+            new AdaptiveUpstreamExecutor.Settings(false, 0.99, 3, 0, Long.MAX_VALUE, 20, false, 0.95, 0, 20));
+
+    @Spy
+    private EmployeeSnapshotCache snapshotCache = new EmployeeSnapshotCache(event -> {});
+
+    @Spy
+    private EmployeeViewsCache viewsCache = new EmployeeViewsCache();
+
+    @Spy
+    private EmployeeAggregator aggregator = new EmployeeAggregator(1, 10);
+
+    @Spy
+    private EmployeeSearchCache searchCache =
+            new EmployeeSearchCache(new SimpleMeterRegistry(), DataSize.ofMegabytes(1));
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -37,7 +82,7 @@ class EmployeeServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(employeeService, "SERVER_URL", BASE_URL);
+        ReflectionTestUtils.setField(employeeService, "snapshotMaxAge", Duration.ofSeconds(30));
 
         sampleEmployee = new EmployeeResponseDTO();
         sampleEmployee.setId(sampleUUID);
@@ -68,6 +113,42 @@ class EmployeeServiceImplTest {
         verify(restTemplate).getForEntity(BASE_URL, EmployeeListResponse.class);
     }
 
+    @Test
+    void getAllEmployees_WhenCircuitOpen_ShouldServeCachedSnapshot() {
+
+        EmployeeListResponse mockResponse = new EmployeeListResponse();
+        mockResponse.setData(Arrays.asList(sampleEmployee));
+
+        when(restTemplate.getForEntity(BASE_URL, EmployeeListResponse.class))
+                .thenReturn(new ResponseEntity<>(mockResponse, HttpStatus.OK))
+                .thenThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        employeeService.getAllEmployees();
+        for (int i = 0; i < 3; i++) {
+            assertThrows(HttpServerErrorException.class, () -> employeeService.getAllEmployees());
+        }
+
+        List<EmployeeResponseDTO> result = employeeService.getAllEmployees();
+
+        assertEquals(1, result.size());
+        assertEquals(sampleEmployee.getEmployeeName(), result.get(0).getEmployeeName());
+        verify(restTemplate, times(4)).getForEntity(BASE_URL, EmployeeListResponse.class);
+    }
+
+    @Test
+    void getAllEmployees_WhenCircuitOpenWithoutSnapshot_ShouldFailFast() {
+
+        when(restTemplate.getForEntity(BASE_URL, EmployeeListResponse.class))
+                .thenThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(HttpServerErrorException.class, () -> employeeService.getAllEmployees());
+        }
+
+        assertThrows(UpstreamUnavailableException.class, () -> employeeService.getAllEmployees());
+        verify(restTemplate, times(3)).getForEntity(BASE_URL, EmployeeListResponse.class);
+    }
+
     @Test
     void getEmployeesByNameSearch_Success() {
 
@@ -84,6 +165,22 @@ class EmployeeServiceImplTest {
         assertTrue(result.get(0).getEmployeeName().contains("John"));
     }
 
+    @Test
+    void getEmployeesByNameSearch_WithFreshSnapshot_ShouldNotCallUpstreamAgain() {
+
+        EmployeeListResponse mockResponse = new EmployeeListResponse();
+        mockResponse.setData(Arrays.asList(sampleEmployee));
+
+        when(restTemplate.getForEntity(BASE_URL, EmployeeListResponse.class))
+                .thenReturn(new ResponseEntity<>(mockResponse, HttpStatus.OK));
+
+        employeeService.getEmployeesByNameSearch("John");
+        List<EmployeeResponseDTO> result = employeeService.getEmployeesByNameSearch("john");
+
+        assertEquals(List.of(sampleEmployee), result);
+        verify(restTemplate).getForEntity(BASE_URL, EmployeeListResponse.class);
+    }
+
     @Test
     void getHighestSalaryOfEmployees_Success() {
 
@@ -101,6 +198,29 @@ class EmployeeServiceImplTest {
         assertEquals(150000, result);
     }
 
+    @Test
+    void getAggregatesByAgeBand_Success() {
+
+        EmployeeResponseDTO employee2 = new EmployeeResponseDTO();
+        employee2.setEmployeeSalary(50000);
+        employee2.setEmployeeAge(35);
+
+        EmployeeListResponse mockResponse = new EmployeeListResponse();
+        mockResponse.setData(Arrays.asList(sampleEmployee, employee2));
+
+        when(restTemplate.getForEntity(BASE_URL, EmployeeListResponse.class))
+                .thenReturn(new ResponseEntity<>(mockResponse, HttpStatus.OK));
+
+        List<EmployeeGroupAggregateDTO> result = employeeService.getAggregatesByAgeBand();
+
+        assertEquals(1, result.size());
+        assertEquals("30-39", result.get(0).getGroup());
+        assertEquals(2, result.get(0).getHeadcount());
+        assertEquals(50000, result.get(0).getMinSalary());
+        assertEquals(100000, result.get(0).getMaxSalary());
+        assertEquals(75000.0, result.get(0).getAverageSalary());
+    }
+
     @Test
     void getTopTenHighestEarningEmployeeNames_Success() {
 
@@ -124,6 +244,22 @@ class EmployeeServiceImplTest {
         assertEquals("Employee 11", result.get(0)); // Highest salary
     }
 
+    @Test
+    void readEndpoints_WithPrecomputedViews_ShouldNotCallUpstream() {
+        EmployeeResponseDTO lowPaid = new EmployeeResponseDTO();
+        lowPaid.setId(UUID.randomUUID());
+        lowPaid.setEmployeeName("Jane Roe");
+        lowPaid.setEmployeeSalary(50000);
+        viewsCache.swap(EmployeeViews.of(EmployeeSnapshot.of(3, List.of(lowPaid, sampleEmployee), Instant.now())));
+
+        assertEquals(100000, employeeService.getHighestSalaryOfEmployees());
+        assertEquals(List.of("John Doe", "Jane Roe"), employeeService.getTopTenHighestEarningEmployeeNames());
+        assertEquals(List.of(sampleEmployee), employeeService.getEmployeesByNameSearch("JOHN"));
+        assertEquals(Optional.of(lowPaid), employeeService.getEmployeeById(lowPaid.getId()));
+        assertEquals(3, employeeService.getLatestEmployeeSnapshot().version());
+        verifyNoInteractions(restTemplate);
+    }
+
     @Test
     void getEmployeeById_Success() {
 
@@ -154,6 +290,70 @@ class EmployeeServiceImplTest {
         assertEquals(sampleEmployee.getEmployeeName(), result.get().getEmployeeName());
     }
 
+    @Test
+    void tryCreateEmployee_WhenThrottled_ShouldThrowWithoutRetrying() {
+
+        when(restTemplate.postForEntity(eq(BASE_URL), any(HttpEntity.class), eq(SingleEmployeeResponse.class)))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null));
+
+        assertThrows(UpstreamThrottledException.class, () -> employeeService.tryCreateEmployee(sampleRequest));
+        verify(restTemplate).postForEntity(eq(BASE_URL), any(HttpEntity.class), eq(SingleEmployeeResponse.class));
+    }
+
+    @Test
+    void getAllEmployees_WithShards_ShouldMergeAndRouteLookupsToOwningShard() {
+
+        UpstreamShards twoShards = twoShards();
+        EmployeeServiceImpl shardedService = shardedService(twoShards);
+        EmployeeResponseDTO employee2 = new EmployeeResponseDTO();
+        employee2.setId(UUID.randomUUID());
+        employee2.setEmployeeName("Jane Roe");
+        EmployeeListResponse firstResponse = new EmployeeListResponse();
+        firstResponse.setData(List.of(sampleEmployee));
+        EmployeeListResponse secondResponse = new EmployeeListResponse();
+        secondResponse.setData(List.of(employee2));
+        SingleEmployeeResponse singleResponse = new SingleEmployeeResponse();
+        singleResponse.setData(employee2);
+
+        when(restTemplate.getForEntity(BASE_URL, EmployeeListResponse.class))
+                .thenReturn(new ResponseEntity<>(firstResponse, HttpStatus.OK));
+        when(restTemplate.getForEntity(SECOND_URL, EmployeeListResponse.class))
+                .thenReturn(new ResponseEntity<>(secondResponse, HttpStatus.OK));
+        when(restTemplate.getForEntity(SECOND_URL + "/" + employee2.getId(), SingleEmployeeResponse.class))
+                .thenReturn(new ResponseEntity<>(singleResponse, HttpStatus.OK));
+
+        List<EmployeeResponseDTO> result = shardedService.getAllEmployees();
+        Optional<EmployeeResponseDTO> found = shardedService.getEmployeeById(employee2.getId());
+
+        assertEquals(
+                List.of("John Doe", "Jane Roe"),
+                result.stream().map(EmployeeResponseDTO::getEmployeeName).toList());
+        assertTrue(found.isPresent());
+        verify(restTemplate, never()).getForEntity(BASE_URL + "/" + employee2.getId(), SingleEmployeeResponse.class);
+    }
+
+    @Test
+    void getEmployeeById_WithShards_ShouldProbeOtherShardsWhenOwnerMisses() {
+
+        UpstreamShards twoShards = twoShards();
+        EmployeeServiceImpl shardedService = shardedService(twoShards);
+        UpstreamShard owner = twoShards.locate(sampleUUID);
+        UpstreamShard other = twoShards.all().get(1 - owner.index());
+        SingleEmployeeResponse mockResponse = new SingleEmployeeResponse();
+        mockResponse.setData(sampleEmployee);
+
+        when(restTemplate.getForEntity(owner.baseUrl() + "/" + sampleUUID, SingleEmployeeResponse.class))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+        when(restTemplate.getForEntity(other.baseUrl() + "/" + sampleUUID, SingleEmployeeResponse.class))
+                .thenReturn(new ResponseEntity<>(mockResponse, HttpStatus.OK));
+
+        Optional<EmployeeResponseDTO> result = shardedService.getEmployeeById(sampleUUID);
+
+        assertTrue(result.isPresent());
+        assertSame(other, twoShards.locate(sampleUUID));
+    }
+
     @Test
     void deleteEmployeeById_Success() {
 
@@ -184,4 +384,44 @@ class EmployeeServiceImplTest {
         verify(restTemplate, never())
                 .exchange(eq(BASE_URL), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(Void.class));
     }
+
+    @Test
+    void deleteEmployeeById_WithPrecomputedViews_ShouldStopServingDeletedEmployee() {
+        viewsCache.swap(EmployeeViews.of(EmployeeSnapshot.of(3, List.of(sampleEmployee), Instant.now())));
+        when(restTemplate.exchange(eq(BASE_URL), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(Void.class)))
+                .thenReturn(new ResponseEntity<>(HttpStatus.OK));
+
+        assertTrue(employeeService.deleteEmployeeById(sampleUUID));
+
+        assertEquals(Optional.empty(), employeeService.getEmployeeById(sampleUUID));
+        assertFalse(employeeService.deleteEmployeeById(sampleUUID));
+        // A refresh that still saw the employee does not bring it back; one without it clears the mark.
+        viewsCache.swap(EmployeeViews.of(EmployeeSnapshot.of(4, List.of(sampleEmployee), Instant.now())));
+        assertEquals(Optional.empty(), employeeService.getEmployeeById(sampleUUID));
+        viewsCache.swap(EmployeeViews.of(EmployeeSnapshot.of(5, List.of(), Instant.now())));
+        assertFalse(viewsCache.isDeleted(sampleUUID));
+        verify(restTemplate).exchange(eq(BASE_URL), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(Void.class));
+        verify(restTemplate, never()).getForEntity(anyString(), eq(SingleEmployeeResponse.class));
+    }
+
+    private UpstreamShards twoShards() {
+        return new UpstreamShards(
+                List.of(BASE_URL, SECOND_URL), () -> new UpstreamRateBudget(5, Duration.ofSeconds(30)));
+    }
+
+    private EmployeeServiceImpl shardedService(UpstreamShards twoShards) {
+        EmployeeServiceImpl service = new EmployeeServiceImpl(
+                restTemplate,
+                twoShards,
+                upstreamGuard,
+                upstreamExecutor,
+                snapshotCache,
+                viewsCache,
+                aggregator,
+                null,
+                null,
+                searchCache);
+        ReflectionTestUtils.setField(service, "snapshotMaxAge", Duration.ofSeconds(30));
+        return service;
+    }
 }
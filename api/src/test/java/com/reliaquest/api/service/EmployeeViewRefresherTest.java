@@ -0,0 +1,150 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeListBodyCache;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.EmployeeViews;
+import com.reliaquest.api.cache.EmployeeViewsCache;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.query.EmployeeQueryEngine;
+import com.reliaquest.api.search.EmployeeAutocompleter;
+import com.reliaquest.api.stats.EmployeeAggregator;
+import com.reliaquest.api.stats.SalaryStatsService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeViewRefresherTest {
+
+    @Mock
+    private IEmployeeService employeeService;
+
+    @Mock
+    private SalaryStatsService salaryStatsService;
+
+    private final UpstreamRateBudget rateBudget = new UpstreamRateBudget(1, Duration.ofMinutes(1));
+    private final UpstreamShards shards =
+            new UpstreamShards(List.of("http://test-api.com/employees"), () -> rateBudget);
+    private final EmployeeSnapshotCache snapshotCache = new EmployeeSnapshotCache(event -> {});
+    private final EmployeeViewsCache viewsCache = new EmployeeViewsCache();
+    private final EmployeeListBodyCache listBodyCache =
+            new EmployeeListBodyCache(new ObjectMapper(), false, DataSize.ofKilobytes(2));
+
+    @Test
+    void refresh_ShouldPrecomputeViewsBeforeSwappingThemIn() {
+        EmployeeSnapshot snapshot = snapshot(1, employee("John Doe", 100000), employee("Jane Roe", 50000));
+        when(employeeService.refreshEmployeeSnapshot()).thenReturn(snapshot);
+
+        refresher().refresh();
+
+        EmployeeViews views = viewsCache.current().orElseThrow();
+        assertSame(snapshot, views.snapshot());
+        assertEquals(100000, views.highestSalary());
+        assertEquals(List.of("John Doe", "Jane Roe"), views.topTenNames());
+        assertEquals(List.of(snapshot.employees().get(1)), views.searchByName("roe"));
+        assertEquals(1, listBodyCache.get(snapshot(0)).version());
+        verify(salaryStatsService).getSalaryStats(snapshot, null);
+    }
+
+    @Test
+    void refresh_WhenBudgetSpent_ShouldServeRestoredSnapshotWithoutFetching() {
+        EmployeeSnapshot restored = snapshot(7, employee("John Doe", 100000));
+        snapshotCache.restore(restored);
+        rateBudget.record();
+
+        refresher().refresh();
+
+        assertSame(restored, viewsCache.current().orElseThrow().snapshot());
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void refresh_WhenFetchFails_ShouldKeepPreviousViews() {
+        EmployeeSnapshot snapshot = snapshot(2, employee("John Doe", 100000));
+        when(employeeService.refreshEmployeeSnapshot())
+                .thenReturn(snapshot)
+                .thenThrow(new IllegalStateException("upstream down"));
+        EmployeeViewRefresher refresher = refresher();
+
+        refresher.refresh();
+        refresher.refresh();
+
+        assertSame(snapshot, viewsCache.current().orElseThrow().snapshot());
+    }
+
+    @Test
+    void refresh_WhenPreparingRestoredSnapshotFails_ShouldStillFetch() {
+        EmployeeSnapshot restored = snapshot(7, employee("John Doe", 100000));
+        EmployeeSnapshot fetched = snapshot(8, employee("Jane Roe", 50000));
+        snapshotCache.restore(restored);
+        doThrow(new IllegalStateException("broken snapshot"))
+                .when(salaryStatsService)
+                .getSalaryStats(restored, null);
+        when(employeeService.refreshEmployeeSnapshot()).thenReturn(fetched);
+
+        assertDoesNotThrow(() -> refresher().refresh());
+        assertSame(fetched, viewsCache.current().orElseThrow().snapshot());
+    }
+
+    @Test
+    void refresh_WhenInstallFails_ShouldNotThrow() {
+        EmployeeSnapshot snapshot = snapshot(3, employee("John Doe", 100000));
+        when(employeeService.refreshEmployeeSnapshot()).thenReturn(snapshot);
+        doThrow(new IllegalStateException("broken snapshot"))
+                .when(salaryStatsService)
+                .getSalaryStats(snapshot, null);
+
+        assertDoesNotThrow(() -> refresher().refresh());
+        assertTrue(viewsCache.current().isEmpty());
+    }
+
+    @Test
+    void install_ShouldNotReplaceViewsOfNewerSnapshot() {
+        EmployeeViewRefresher refresher = refresher();
+        EmployeeSnapshot newer = snapshot(5, employee("John Doe", 100000));
+
+        refresher.install(newer);
+        refresher.install(snapshot(4, employee("Jane Roe", 50000)));
+
+        assertSame(newer, viewsCache.current().orElseThrow().snapshot());
+    }
+
+    private EmployeeViewRefresher refresher() {
+        return new EmployeeViewRefresher(
+                employeeService,
+                shards,
+                snapshotCache,
+                viewsCache,
+                new EmployeeAggregator(1, 10),
+                new EmployeeQueryEngine(0.25, 20),
+                new EmployeeAutocompleter(10),
+                salaryStatsService,
+                listBodyCache,
+                Duration.ofSeconds(20));
+    }
+
+    private static EmployeeSnapshot snapshot(long version, EmployeeResponseDTO... employees) {
+        return EmployeeSnapshot.of(version, List.of(employees), Instant.now());
+    }
+
+    private static EmployeeResponseDTO employee(String name, int salary) {
+        EmployeeResponseDTO employee = new EmployeeResponseDTO();
+        employee.setId(UUID.randomUUID());
+        employee.setEmployeeName(name);
+        employee.setEmployeeSalary(salary);
+        employee.setEmployeeAge(30);
+        employee.setEmployeeTitle("Engineer");
+        return employee;
+    }
+}
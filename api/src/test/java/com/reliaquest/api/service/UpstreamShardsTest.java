@@ -0,0 +1,138 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class UpstreamShardsTest {
+
+    private static final List<String> BASE_URLS = List.of("http://a", "http://b", "http://c");
+
+    private final UpstreamShards shards = newShards(BASE_URLS);
+
+    @AfterEach
+    void tearDown() {
+        shards.shutdown();
+    }
+
+    @Test
+    void locate_ShouldSpreadUnknownIdsAcrossShards() {
+        Map<String, Long> counts = IntStream.range(0, 3000)
+                .mapToObj(i -> shards.locate(UUID.randomUUID()).baseUrl())
+                .collect(Collectors.groupingBy(url -> url, Collectors.counting()));
+
+        assertEquals(3, counts.size());
+        counts.values().forEach(count -> assertTrue(count > 600, "uneven spread: " + counts));
+    }
+
+    @Test
+    void locate_WhenShardAdded_ShouldOnlyMoveIdsToNewShard() {
+        UpstreamShards grown = newShards(List.of("http://a", "http://b", "http://c", "http://d"));
+        try {
+            for (int i = 0; i < 1000; i++) {
+                UUID id = UUID.randomUUID();
+                String after = grown.locate(id).baseUrl();
+                assertTrue(after.equals("http://d")
+                        || after.equals(shards.locate(id).baseUrl()));
+            }
+        } finally {
+            grown.shutdown();
+        }
+    }
+
+    @Test
+    void locate_ShouldPreferRememberedShard() {
+        UUID id = UUID.randomUUID();
+        UpstreamShard other = shards.all().get((shards.locate(id).index() + 1) % 3);
+
+        shards.remember(id, other);
+
+        assertTrue(shards.isLocated(id));
+        assertSame(other, shards.locate(id));
+
+        shards.forget(id);
+
+        assertFalse(shards.isLocated(id));
+    }
+
+    @Test
+    void rememberAll_ShouldKeepChangesMadeWhileListing() {
+        UUID listed = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        UUID created = UUID.randomUUID();
+        UpstreamShard shard = shards.all().get(0);
+        shards.remember(deleted, shard);
+
+        long listingStamp = shards.locationStamp();
+        shards.forget(deleted);
+        shards.remember(created, shard);
+        shards.rememberAll(Map.of(listed, shard, deleted, shard), listingStamp);
+
+        assertTrue(shards.isLocated(listed));
+        assertFalse(shards.isLocated(deleted));
+        assertTrue(shards.isLocated(created));
+    }
+
+    @Test
+    void rememberAll_WhenOlderListingFinishesLast_ShouldIgnoreIt() {
+        UUID stale = UUID.randomUUID();
+        UUID current = UUID.randomUUID();
+        UpstreamShard shard = shards.all().get(0);
+
+        long olderStamp = shards.locationStamp();
+        shards.remember(UUID.randomUUID(), shard);
+        shards.rememberAll(Map.of(current, shard), shards.locationStamp());
+        shards.rememberAll(Map.of(stale, shard), olderStamp);
+
+        assertTrue(shards.isLocated(current));
+        assertFalse(shards.isLocated(stale));
+    }
+
+    @Test
+    void scatter_ShouldReturnResultsInShardOrder() {
+        List<String> result = shards.scatter(shards.all(), UpstreamShard::baseUrl);
+
+        assertEquals(BASE_URLS, result);
+    }
+
+    @Test
+    void scatter_ShouldRethrowFirstFailureAfterAllCallsFinish() {
+        List<String> called = new CopyOnWriteArrayList<>();
+
+        IllegalStateException thrown = assertThrows(
+                IllegalStateException.class,
+                () -> shards.scatter(shards.all(), shard -> {
+                    called.add(shard.baseUrl());
+                    if (shard.index() > 0) {
+                        throw new IllegalStateException(shard.baseUrl());
+                    }
+                    return shard.baseUrl();
+                }));
+
+        assertEquals("http://b", thrown.getMessage());
+        assertEquals(3, called.size());
+    }
+
+    @Test
+    void forCreate_ShouldSkipShardsWithoutBudget() {
+        shards.all().get(1).rateBudget().onThrottled();
+
+        List<String> picked = IntStream.range(0, 4)
+                .mapToObj(i -> shards.forCreate().baseUrl())
+                .toList();
+
+        assertFalse(picked.contains("http://b"));
+    }
+
+    private static UpstreamShards newShards(List<String> baseUrls) {
+        return new UpstreamShards(baseUrls, () -> new UpstreamRateBudget(5, Duration.ofSeconds(30)));
+    }
+}
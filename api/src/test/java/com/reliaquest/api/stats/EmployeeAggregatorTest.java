@@ -0,0 +1,86 @@
+package com.reliaquest.api.stats;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.dto.EmployeeGroupAggregateDTO;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeAggregatorTest {
+
+    private static final List<String> TITLES = List.of("Analyst", "Engineer", "Manager");
+
+    @Test
+    void aggregate_ByTitle_ShouldComputeGroupStatistics() {
+        EmployeeSnapshot snapshot = snapshot(
+                1,
+                employee("Engineer", 100_000, 30),
+                employee("Engineer", 60_000, 41),
+                employee("Manager", 90_000, 50));
+
+        List<EmployeeGroupAggregateDTO> result =
+                new EmployeeAggregator(50_000, 10).aggregate(snapshot, EmployeeAggregator.Grouping.TITLE);
+
+        assertEquals(2, result.size());
+        EmployeeGroupAggregateDTO engineers = result.get(0);
+        assertEquals("Engineer", engineers.getGroup());
+        assertEquals(2, engineers.getHeadcount());
+        assertEquals(60_000, engineers.getMinSalary());
+        assertEquals(100_000, engineers.getMaxSalary());
+        assertEquals(80_000.0, engineers.getAverageSalary());
+    }
+
+    @Test
+    void aggregate_AboveParallelThreshold_ShouldMatchSequentialEvaluation() {
+        Random random = new Random(42);
+        List<EmployeeResponseDTO> employees = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String title = TITLES.get(random.nextInt(TITLES.size()));
+            employees.add(employee(title, 30_000 + random.nextInt(200_000), 18 + random.nextInt(50)));
+        }
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(1, employees, Instant.now());
+
+        for (EmployeeAggregator.Grouping grouping : EmployeeAggregator.Grouping.values()) {
+            assertEquals(
+                    new EmployeeAggregator(Integer.MAX_VALUE, 10).aggregate(snapshot, grouping),
+                    new EmployeeAggregator(100, 10).aggregate(snapshot, grouping));
+        }
+    }
+
+    @Test
+    void aggregate_ShouldCacheResultsPerSnapshotVersion() {
+        EmployeeAggregator aggregator = new EmployeeAggregator(50_000, 10);
+        EmployeeResponseDTO engineer = employee("Engineer", 100_000, 30);
+
+        List<EmployeeGroupAggregateDTO> first =
+                aggregator.aggregate(snapshot(1, engineer), EmployeeAggregator.Grouping.AGE_BAND);
+        List<EmployeeGroupAggregateDTO> cached =
+                aggregator.aggregate(snapshot(1, engineer), EmployeeAggregator.Grouping.AGE_BAND);
+        List<EmployeeGroupAggregateDTO> next = aggregator.aggregate(
+                snapshot(2, engineer, employee("Manager", 90_000, 50)), EmployeeAggregator.Grouping.AGE_BAND);
+
+        assertSame(first, cached);
+        assertEquals(2, next.size());
+        assertEquals("50-59", next.get(1).getGroup());
+    }
+
+    private static EmployeeSnapshot snapshot(long version, EmployeeResponseDTO... employees) {
+        return EmployeeSnapshot.of(version, List.of(employees), Instant.now());
+    }
+
+    private static EmployeeResponseDTO employee(String title, int salary, int age) {
+        return EmployeeResponseDTO.builder()
+                .id(UUID.randomUUID())
+                .employeeName(title + " Employee")
+                .employeeSalary(salary)
+                .employeeAge(age)
+                .employeeTitle(title)
+                .build();
+    }
+}
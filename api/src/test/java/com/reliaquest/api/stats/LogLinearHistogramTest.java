@@ -0,0 +1,69 @@
+package com.reliaquest.api.stats;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class LogLinearHistogramTest {
+
+    private final LogLinearHistogram histogram = new LogLinearHistogram(6);
+
+    @Test
+    void quantile_ShouldBeWithinRelativeError() {
+        for (int salary = 1_000; salary <= 500_000; salary += 7) {
+            histogram.add(salary);
+        }
+
+        long median = histogram.quantile(0.5);
+        long p99 = histogram.quantile(0.99);
+
+        assertEquals(250_500, median, 250_500 / 64.0);
+        assertEquals(495_010, p99, 495_010 / 64.0);
+    }
+
+    @Test
+    void remove_ShouldUndoAdd() {
+        histogram.add(40_000);
+        histogram.add(90_000);
+
+        histogram.remove(90_000);
+
+        assertEquals(1, histogram.count());
+        assertEquals(40_000, histogram.sum());
+        assertEquals(40_000, histogram.quantile(1), 40_000 / 64.0);
+    }
+
+    @Test
+    void remove_WhenValueWasNeverAdded_ShouldThrow() {
+        histogram.add(40_000);
+
+        assertThrows(IllegalStateException.class, () -> histogram.remove(900_000));
+    }
+
+    @Test
+    void merge_ShouldAddCounts() {
+        LogLinearHistogram other = new LogLinearHistogram(6);
+        histogram.add(10);
+        other.add(1_000);
+        other.add(100_000);
+
+        histogram.merge(other);
+
+        assertEquals(3, histogram.count());
+        assertEquals(101_010, histogram.sum());
+    }
+
+    @Test
+    void buckets_ShouldCoverEveryValue() {
+        histogram.add(3);
+        histogram.add(70_000);
+        histogram.add(71_000);
+
+        var buckets = histogram.buckets(2);
+
+        assertEquals(
+                3, buckets.stream().mapToLong(LogLinearHistogram.Bucket::count).sum());
+        assertTrue(buckets.stream().anyMatch(bucket -> bucket.from() <= 3 && bucket.to() >= 3));
+        assertTrue(buckets.stream().anyMatch(bucket -> bucket.from() <= 70_000 && bucket.to() >= 71_000));
+    }
+}
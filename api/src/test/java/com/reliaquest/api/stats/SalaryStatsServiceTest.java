@@ -0,0 +1,132 @@
+package com.reliaquest.api.stats;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotChangedEvent;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.dto.SalaryStatsDTO;
+import com.reliaquest.api.service.IEmployeeService;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SalaryStatsServiceTest {
+
+    @Mock
+    private IEmployeeService employeeService;
+
+    @InjectMocks
+    private SalaryStatsService salaryStatsService;
+
+    private final EmployeeResponseDTO engineer = employee("Engineer", 100_000);
+    private final EmployeeResponseDTO manager = employee("Manager", 200_000);
+    private final EmployeeResponseDTO analyst = employee("Analyst", 50_000);
+
+    @Test
+    void getSalaryStats_ShouldSummarizeSnapshot() {
+        when(employeeService.getEmployeeSnapshot()).thenReturn(snapshot(1, engineer, manager));
+
+        SalaryStatsDTO stats = salaryStatsService.getSalaryStats(null);
+
+        assertEquals(1, stats.getSnapshotVersion());
+        assertEquals(2, stats.getOverall().getCount());
+        assertEquals(150_000, stats.getOverall().getMean());
+        assertEquals(200_000, stats.getOverall().getP99(), 200_000 / 64.0);
+        assertEquals(2, stats.getByTitle().size());
+        assertEquals(100_000, stats.getByTitle().get("Engineer").getMedian(), 100_000 / 64.0);
+    }
+
+    @Test
+    void getSalaryStats_ShouldApplySnapshotDelta() {
+        EmployeeSnapshot first = snapshot(1, engineer, manager);
+        EmployeeSnapshot second = snapshot(2, engineer, analyst);
+        when(employeeService.getEmployeeSnapshot()).thenReturn(first).thenReturn(second);
+        salaryStatsService.getSalaryStats(null);
+
+        salaryStatsService.onSnapshotChanged(new EmployeeSnapshotChangedEvent(first, second));
+        SalaryStatsDTO stats = salaryStatsService.getSalaryStats(null);
+
+        assertEquals(2, stats.getSnapshotVersion());
+        assertEquals(2, stats.getOverall().getCount());
+        assertEquals(75_000, stats.getOverall().getMean());
+        assertFalse(stats.getByTitle().containsKey("Manager"));
+        assertTrue(stats.getByTitle().containsKey("Analyst"));
+    }
+
+    @Test
+    void onSnapshotChanged_WhenSalaryNegative_ShouldExcludeAndCountIt() {
+        EmployeeResponseDTO negative = employee("Engineer", -1);
+        EmployeeSnapshot first = snapshot(1, engineer, negative);
+        EmployeeSnapshot second = snapshot(2, engineer);
+        salaryStatsService.onSnapshotChanged(new EmployeeSnapshotChangedEvent(null, first));
+
+        SalaryStatsDTO stats = salaryStatsService.getSalaryStats(first, null);
+
+        assertEquals(1, stats.getOverall().getCount());
+        assertEquals(1, stats.getExcludedNegativeSalaries());
+        assertEquals(1, stats.getByTitle().get("Engineer").getCount());
+
+        salaryStatsService.onSnapshotChanged(new EmployeeSnapshotChangedEvent(first, second));
+        stats = salaryStatsService.getSalaryStats(second, null);
+
+        assertEquals(1, stats.getOverall().getCount());
+        assertEquals(0, stats.getExcludedNegativeSalaries());
+    }
+
+    @Test
+    void onSnapshotChanged_WhenIdMissing_ShouldStillCountTheEmployee() {
+        EmployeeResponseDTO withoutId = employee("Analyst", 50_000);
+        withoutId.setId(null);
+        EmployeeSnapshot first = snapshot(1, engineer, withoutId);
+        EmployeeSnapshot second = snapshot(2, engineer, withoutId, manager);
+        EmployeeSnapshot third = snapshot(3, engineer);
+
+        SalaryStatsDTO stats = salaryStatsService.getSalaryStats(first, null);
+
+        assertEquals(2, stats.getOverall().getCount());
+        assertEquals(1, stats.getByTitle().get("Analyst").getCount());
+
+        salaryStatsService.onSnapshotChanged(new EmployeeSnapshotChangedEvent(first, second));
+        stats = salaryStatsService.getSalaryStats(second, null);
+
+        assertEquals(3, stats.getOverall().getCount());
+        assertEquals(1, stats.getByTitle().get("Analyst").getCount());
+
+        salaryStatsService.onSnapshotChanged(new EmployeeSnapshotChangedEvent(second, third));
+        stats = salaryStatsService.getSalaryStats(third, null);
+
+        assertEquals(1, stats.getOverall().getCount());
+        assertFalse(stats.getByTitle().containsKey("Analyst"));
+    }
+
+    @Test
+    void getSalaryStats_WithTitle_ShouldOnlyIncludeThatTitle() {
+        when(employeeService.getEmployeeSnapshot()).thenReturn(snapshot(1, engineer, manager));
+
+        SalaryStatsDTO stats = salaryStatsService.getSalaryStats("Manager");
+
+        assertEquals(2, stats.getOverall().getCount());
+        assertEquals(List.of("Manager"), List.copyOf(stats.getByTitle().keySet()));
+    }
+
+    private static EmployeeSnapshot snapshot(long version, EmployeeResponseDTO... employees) {
+        return EmployeeSnapshot.of(version, List.of(employees), Instant.now());
+    }
+
+    private static EmployeeResponseDTO employee(String title, int salary) {
+        return EmployeeResponseDTO.builder()
+                .id(UUID.randomUUID())
+                .employeeName(title + " Employee")
+                .employeeSalary(salary)
+                .employeeTitle(title)
+                .build();
+    }
+}
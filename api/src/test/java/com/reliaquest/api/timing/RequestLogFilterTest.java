@@ -0,0 +1,92 @@
+package com.reliaquest.api.timing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestLogFilterTest {
+
+    private final Logger requestLog = (Logger) LoggerFactory.getLogger(RequestLogFilter.LOGGER_NAME);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void attachAppender() {
+        appender.start();
+        requestLog.addAppender(appender);
+    }
+
+    @AfterEach
+    void detachAppender() {
+        requestLog.detachAppender(appender);
+    }
+
+    @Test
+    void doFilter_WhenNotSampled_ShouldNotLogFastSuccessfulRequests() throws Exception {
+        filter(new RequestLogFilter(0, Duration.ofSeconds(1)), (req, res) -> {});
+
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    void doFilter_WhenSampled_ShouldLogKeyValueLine() throws Exception {
+        filter(new RequestLogFilter(1, Duration.ofSeconds(1)), (req, res) -> status(res, 201));
+
+        assertEquals(
+                List.of("method=GET path=/api/v1/employee status=201 reason=sampled"),
+                appender.list.stream()
+                        .map(event -> event.getFormattedMessage().replaceAll(" duration_ms=\\d+\\.\\d", ""))
+                        .toList());
+    }
+
+    @Test
+    void doFilter_ShouldAlwaysLogServerErrorsAndSlowRequests() throws Exception {
+        filter(new RequestLogFilter(0, Duration.ofSeconds(1)), (req, res) -> status(res, 503));
+        filter(new RequestLogFilter(0, Duration.ofMillis(5)), (req, res) -> sleep(10));
+
+        assertEquals(2, appender.list.size());
+        assertTrue(appender.list.get(0).getFormattedMessage().matches(".* status=503 .* reason=error"));
+        assertTrue(appender.list.get(1).getFormattedMessage().matches(".* status=200 .* reason=slow"));
+    }
+
+    @Test
+    void doFilter_WhenChainThrows_ShouldLogAsServerError() {
+        RequestLogFilter filter = new RequestLogFilter(0, Duration.ofSeconds(1));
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> filter(filter, (req, res) -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        assertTrue(appender.list.get(0).getFormattedMessage().contains("status=500"));
+    }
+
+    private static void status(ServletResponse response, int status) {
+        ((HttpServletResponse) response).setStatus(status);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void filter(RequestLogFilter filter, FilterChain chain) throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/employee"), new MockHttpServletResponse(), chain);
+    }
+}
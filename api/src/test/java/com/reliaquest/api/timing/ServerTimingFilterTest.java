@@ -0,0 +1,116 @@
+package com.reliaquest.api.timing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ServerTimingFilterTest {
+
+    private final ServerTimingFilter filter = new ServerTimingFilter();
+
+    @Test
+    void doFilter_ShouldReportPhasesBeforeBodyIsWritten() throws Exception {
+        MockHttpServletResponse response = filter("/api/v1/employee/topTenHighestEarningEmployeeNames", (req, res) -> {
+            RequestTimings.upstreamCall("list", "http://localhost:8112", () -> sleep(5));
+            RequestTimings.compute("topTenHighestEarning", 50, () -> sleep(1));
+            res.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+            // Work after the body is committed can no longer show up in the header.
+            retryWait();
+        });
+
+        String serverTiming = response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER);
+        assertNotNull(serverTiming);
+        assertTrue(serverTiming.matches("upstream;dur=\\d+\\.\\d, compute;dur=\\d+\\.\\d, total;dur=\\d+\\.\\d"));
+        assertTrue(parseDuration(serverTiming, "upstream") >= 5);
+    }
+
+    @Test
+    void doFilter_ShouldNotCountDeserializationAsUpstreamTime() throws Exception {
+        MockHttpServletResponse response = filter("/api/v1/employee", (req, res) -> {
+            RequestTimings.upstreamCall("list", "http://localhost:8112", () -> {
+                sleep(5);
+                final var started = System.nanoTime();
+                sleep(50);
+                RequestTimings.record(RequestTimings.Phase.DESERIALIZE, System.nanoTime() - started);
+                return "bound";
+            });
+        });
+
+        String serverTiming = response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER);
+        assertTrue(parseDuration(serverTiming, "deserialize") >= 50);
+        assertTrue(parseDuration(serverTiming, "upstream") >= 5);
+        assertTrue(parseDuration(serverTiming, "upstream") < 50);
+    }
+
+    @Test
+    void doFilter_ShouldReportTotalForResponsesWithoutBody() throws Exception {
+        MockHttpServletResponse response = filter(
+                "/api/v1/employee/4a3a170b-22cd-4ac2-aad1-9bb5b34a1507",
+                (req, res) -> ((HttpServletResponse) res).setStatus(404));
+
+        assertEquals(404, response.getStatus());
+        assertTrue(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER).startsWith("total;dur="));
+    }
+
+    @Test
+    void doFilter_ShouldCountWorkPropagatedToOtherThreads() throws Exception {
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            MockHttpServletResponse response = filter("/api/v1/employee", (req, res) -> CompletableFuture.supplyAsync(
+                            RequestTimings.propagate(() -> RequestTimings.compute("merge", 2, () -> sleep(5))),
+                            executor)
+                    .join());
+
+            assertTrue(parseDuration(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER), "compute") >= 5);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void doFilter_ShouldNotTimeRequestsOutsideEmployeeApi() throws Exception {
+        MockHttpServletResponse response = filter("/actuator/health", (req, res) -> {});
+
+        assertNull(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER));
+    }
+
+    private MockHttpServletResponse filter(String path, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", path), response, chain);
+        return response;
+    }
+
+    private static double parseDuration(String serverTiming, String metric) {
+        for (String entry : serverTiming.split(", ")) {
+            if (entry.startsWith(metric + ";dur=")) {
+                return Double.parseDouble(entry.substring(metric.length() + ";dur=".length()));
+            }
+        }
+        return fail("No " + metric + " in " + serverTiming);
+    }
+
+    private static void retryWait() {
+        try {
+            RequestTimings.sleepBeforeRetry("list", 1, 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "slept";
+    }
+}
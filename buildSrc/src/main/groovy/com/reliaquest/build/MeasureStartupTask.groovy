@@ -0,0 +1,125 @@
+package com.reliaquest.build
+
+import org.gradle.api.DefaultTask
+import org.gradle.api.GradleException
+import org.gradle.api.file.DirectoryProperty
+import org.gradle.api.file.RegularFileProperty
+import org.gradle.api.provider.Property
+import org.gradle.api.tasks.Input
+import org.gradle.api.tasks.InputDirectory
+import org.gradle.api.tasks.InputFile
+import org.gradle.api.tasks.Optional
+import org.gradle.api.tasks.OutputFile
+import org.gradle.api.tasks.TaskAction
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Starts the application from its startup layout in each launch mode and reports the median time from process start
+ * to the first HTTP response on {@code probePath}.
+ * <p>
+ * Modes are the plain JVM and the JVM with the class-data-sharing archive, plus both again with Spring AOT enabled when
+ * the layout was built with {@code -PspringAot}.
+ */
+abstract class MeasureStartupTask extends DefaultTask {
+
+    @Input
+    abstract Property<String> getJavaExecutable()
+
+    @InputDirectory
+    abstract DirectoryProperty getApplicationDirectory()
+
+    @InputFile
+    abstract RegularFileProperty getCdsArchive()
+
+    @Input
+    abstract Property<Boolean> getAot()
+
+    @Input
+    abstract Property<String> getProbePath()
+
+    @Input
+    abstract Property<Integer> getRuns()
+
+    @Input
+    @Optional
+    abstract Property<Integer> getTimeoutSeconds()
+
+    @OutputFile
+    abstract RegularFileProperty getReportFile()
+
+    MeasureStartupTask() {
+        probePath.convention('/')
+        runs.convention(3)
+        timeoutSeconds.convention(120)
+        aot.convention(false)
+        outputs.upToDateWhen { false }
+    }
+
+    @TaskAction
+    void measure() {
+        def modes = ['default': []]
+        modes['cds'] = ["-XX:SharedArchiveFile=${cdsArchive.get().asFile}"]
+        if (aot.get()) {
+            modes['aot'] = ['-Dspring.aot.enabled=true']
+            modes['aot+cds'] = modes['aot'] + modes['cds']
+        }
+
+        def report = new StringBuilder("Time to first response on ${probePath.get()}, median of ${runs.get()} runs\n")
+        modes.each { mode, jvmArgs ->
+            def timings = (1..runs.get()).collect { run -> launch(mode, run, jvmArgs as List<String>) }.sort()
+            def median = timings[timings.size().intdiv(2)]
+            def line = String.format('%-8s %6d ms  (runs: %s)', mode, median, timings.join(', '))
+            logger.lifecycle(line)
+            report.append(line).append('\n')
+        }
+        reportFile.get().asFile.text = report.toString()
+    }
+
+    private long launch(String mode, int run, List<String> jvmArgs) {
+        def port = new ServerSocket(0).withCloseable { it.localPort }
+        def logFile = new File(temporaryDir, "${mode.replace('+', '-')}-${run}.log")
+        def command = [javaExecutable.get()] + jvmArgs + ['-jar', 'application.jar', "--server.port=${port}"]
+        def probe = new URL("http://localhost:${port}${probePath.get()}")
+
+        def started = System.nanoTime()
+        def process = new ProcessBuilder(command.collect { it.toString() })
+                .directory(applicationDirectory.get().asFile)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile)
+                .start()
+        try {
+            def deadline = started + TimeUnit.SECONDS.toNanos(timeoutSeconds.get())
+            while (System.nanoTime() < deadline) {
+                if (!process.alive) {
+                    throw new GradleException("Application exited during ${mode} startup, see ${logFile}")
+                }
+                if (responds(probe)) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)
+                }
+                Thread.sleep(5)
+            }
+            throw new GradleException("No response from ${probe} within ${timeoutSeconds.get()} s, see ${logFile}")
+        } finally {
+            process.destroy()
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly()
+            }
+        }
+    }
+
+    // Any HTTP status counts: the request reached the application, even if the mock server chose to throttle it.
+    private static boolean responds(URL probe) {
+        def connection = (HttpURLConnection) probe.openConnection()
+        connection.connectTimeout = 100
+        connection.readTimeout = 5000
+        try {
+            connection.responseCode
+            return true
+        } catch (IOException ignored) {
+            return false
+        } finally {
+            connection.disconnect()
+        }
+    }
+}
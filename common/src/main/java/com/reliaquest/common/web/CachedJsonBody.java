@@ -0,0 +1,85 @@
+package com.reliaquest.common.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Serialized JSON response body for one version of the underlying data, written to clients without re-serializing.
+ * <p>
+ * When the body is {@code compressible}, clients that accept gzip get a compressed copy, which is made once on first
+ * use. The response then carries {@code Content-Encoding: gzip}, which keeps the container from compressing it again.
+ */
+public final class CachedJsonBody {
+
+    private final long version;
+    private final byte[] json;
+    private final boolean compressible;
+    private volatile byte[] gzip;
+
+    public CachedJsonBody(long version, byte[] json, boolean compressible) {
+        this.version = version;
+        this.json = json;
+        this.compressible = compressible;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public ResponseEntity<byte[]> toResponse(String acceptEncoding) {
+        final var response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (compressible && acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip());
+        }
+        return response.body(json);
+    }
+
+    private byte[] gzip() {
+        var compressed = gzip;
+        if (compressed == null) {
+            synchronized (this) {
+                compressed = gzip;
+                if (compressed == null) {
+                    compressed = compress(json);
+                    gzip = compressed;
+                }
+            }
+        }
+        return compressed;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            final var parameters = coding.split(";");
+            if (parameters[0].trim().equalsIgnoreCase("gzip")) {
+                for (int i = 1; i < parameters.length; i++) {
+                    if (parameters[i].trim().matches("q=0(\\.0*)?")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] compress(byte[] bytes) {
+        final var buffer = new ByteArrayOutputStream(bytes.length / 4);
+        try (var gzipStream = new GZIPOutputStream(buffer)) {
+            gzipStream.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.common.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+class CachedJsonBodyTest {
+
+    private static final byte[] JSON = "[{\"employee_name\":\"John Doe\"}]".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void toResponse_WhenGzipAccepted_ShouldReturnCompressedBody() throws Exception {
+        CachedJsonBody body = new CachedJsonBody(1, JSON, true);
+
+        ResponseEntity<byte[]> response = body.toResponse("deflate, gzip;q=0.8");
+
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (var gzip = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            assertArrayEquals(JSON, gzip.readAllBytes());
+        }
+        assertSame(response.getBody(), body.toResponse("gzip").getBody());
+    }
+
+    @Test
+    void toResponse_WhenGzipNotAcceptedOrNotCompressible_ShouldReturnJson() {
+        assertSame(
+                JSON, new CachedJsonBody(1, JSON, true).toResponse("gzip;q=0").getBody());
+        assertSame(JSON, new CachedJsonBody(1, JSON, true).toResponse(null).getBody());
+        assertSame(JSON, new CachedJsonBody(1, JSON, false).toResponse("gzip").getBody());
+    }
+}
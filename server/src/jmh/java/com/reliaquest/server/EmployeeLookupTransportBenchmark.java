@@ -0,0 +1,87 @@
+package com.reliaquest.server;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Concurrent employee lookups by id against a running mock server, over HTTP/1.1 and over h2c, using the same JDK
+ * {@link HttpClient} the api module talks to upstream with. One operation is a batch of {@code concurrency} lookups
+ * sent at once, like the fan-out of a batch of {@code getEmployeeById} calls. HTTP/1.1 needs a connection per
+ * in-flight request, h2c multiplexes the whole batch over one.
+ * <p>
+ * Run with {@code ./gradlew server:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EmployeeLookupTransportBenchmark {
+
+    @Param({"HTTP_1_1", "HTTP_2"})
+    private HttpClient.Version version;
+
+    @Param({"16", "64"})
+    private int concurrency;
+
+    private ConfigurableApplicationContext server;
+    private HttpClient client;
+    private List<URI> employeeUris;
+
+    @Setup(Level.Trial)
+    public void startServer() throws Exception {
+        server = SpringApplication.run(
+                ServerApplication.class,
+                "--server.port=0",
+                "--server.http2.enabled=true",
+                "--mock.rate-limit.enabled=false",
+                "--mock.employees.max=1000",
+                "--logging.level.com.reliaquest=WARN");
+        final var baseUri =
+                "http://localhost:" + server.getEnvironment().getProperty("local.server.port") + "/api/v1/employee/";
+        employeeUris = server.getBean(MockEmployeeStore.class).findAll().stream()
+                .map(MockEmployee::getId)
+                .map(id -> URI.create(baseUri + id))
+                .toList();
+        client = HttpClient.newBuilder().version(version).build();
+        // Upgrades the first connection to h2c before the batches start.
+        client.send(HttpRequest.newBuilder(employeeUris.get(0)).build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() {
+        server.close();
+    }
+
+    @Benchmark
+    public int lookups() {
+        final var random = ThreadLocalRandom.current();
+        final var responses = new CompletableFuture<?>[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            final var request = HttpRequest.newBuilder(employeeUris.get(random.nextInt(employeeUris.size())))
+                    .build();
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                    .thenApply(HttpResponse::body);
+        }
+        CompletableFuture.allOf(responses).join();
+        return responses.length;
+    }
+}
@@ -0,0 +1,165 @@
+package com.reliaquest.server;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.reliaquest.server.config.MockEmployeeGenerator;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Cost of binding the employee list response, with Jackson's reflective property access ({@code REFLECTIVE}) and with
+ * the accessors the Blackbird module generates ({@code BLACKBIRD}). {@code serialize} writes the mock server's list
+ * response, {@code deserialize} reads it back in the shape the api module binds upstream responses to.
+ * <p>
+ * Readers and writers are built in setup, as the applications build them at startup, so only steady-state binding is
+ * measured.
+ * <p>
+ * Run with {@code ./gradlew server:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonBenchmark {
+
+    @Param({"REFLECTIVE", "BLACKBIRD"})
+    private String access;
+
+    @Param({"20", "1000"})
+    private int employees;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private Response<List<MockEmployee>> response;
+    private byte[] json;
+
+    @Setup
+    public void configure() throws IOException {
+        // Configured like Spring Boot's ObjectMapper.
+        final var builder = Jackson2ObjectMapperBuilder.json();
+        if (access.equals("BLACKBIRD")) {
+            builder.modulesToInstall(BlackbirdModule.class);
+        }
+        final ObjectMapper objectMapper = builder.build();
+        writer = objectMapper.writerFor(new TypeReference<Response<List<MockEmployee>>>() {});
+        reader = objectMapper.readerFor(UpstreamListResponse.class);
+        response = Response.handledWith(new MockEmployeeGenerator(Locale.getDefault(), 42L)
+                .generate(employees)
+                .toList());
+        json = writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public UpstreamListResponse deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+    // Mirrors the api module's EmployeeListResponse, which this module cannot depend on.
+    public static class UpstreamListResponse {
+
+        private List<UpstreamEmployee> data;
+        private String status;
+
+        public List<UpstreamEmployee> getData() {
+            return data;
+        }
+
+        public void setData(List<UpstreamEmployee> data) {
+            this.data = data;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+    }
+
+    // Mirrors the api module's EmployeeResponseDTO.
+    public static class UpstreamEmployee {
+
+        private UUID id;
+        private String employeeName;
+        private Integer employeeSalary;
+        private Integer employeeAge;
+        private String employeeTitle;
+        private String employeeEmail;
+
+        public UUID getId() {
+            return id;
+        }
+
+        public void setId(UUID id) {
+            this.id = id;
+        }
+
+        @JsonProperty("employee_name")
+        public String getEmployeeName() {
+            return employeeName;
+        }
+
+        public void setEmployeeName(String employeeName) {
+            this.employeeName = employeeName;
+        }
+
+        @JsonProperty("employee_salary")
+        public Integer getEmployeeSalary() {
+            return employeeSalary;
+        }
+
+        public void setEmployeeSalary(Integer employeeSalary) {
+            this.employeeSalary = employeeSalary;
+        }
+
+        @JsonProperty("employee_age")
+        public Integer getEmployeeAge() {
+            return employeeAge;
+        }
+
+        public void setEmployeeAge(Integer employeeAge) {
+            this.employeeAge = employeeAge;
+        }
+
+        @JsonProperty("employee_title")
+        public String getEmployeeTitle() {
+            return employeeTitle;
+        }
+
+        public void setEmployeeTitle(String employeeTitle) {
+            this.employeeTitle = employeeTitle;
+        }
+
+        @JsonProperty("employee_email")
+        public String getEmployeeEmail() {
+            return employeeEmail;
+        }
+
+        public void setEmployeeEmail(String employeeEmail) {
+            this.employeeEmail = employeeEmail;
+        }
+    }
+}
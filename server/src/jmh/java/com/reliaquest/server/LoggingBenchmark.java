@@ -0,0 +1,111 @@
+package com.reliaquest.server;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Cost of logging on request threads, configured like {@code logback-spring.xml}: {@code SYNC} writes each event on
+ * the calling thread with the console pattern and a flush per event, {@code ASYNC} hands it to a bounded queue that
+ * drops events rather than block. The appender writes to a temporary file so the console does not skew results.
+ * Async throughput counts events handed off, including those dropped on overflow.
+ * <p>
+ * The {@code disabledDebug} benchmarks show why hot-path debug logging must be parameterized: a disabled call with
+ * placeholders costs a level check, one with string concatenation still builds the message.
+ * <p>
+ * Run with {@code ./gradlew server:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class LoggingBenchmark {
+
+    // Spring Boot's console pattern without colours.
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p "
+            + ProcessHandle.current().pid() + " --- [%15.15t] %-40.40logger{39} : %m%n";
+
+    @Param({"SYNC", "ASYNC"})
+    private String mode;
+
+    private LoggerContext context;
+    private Logger logger;
+    private Path logFile;
+    private UUID employeeId = UUID.randomUUID();
+    private String shard = "http://localhost:8112/api/v1/employee";
+
+    @Setup
+    public void configure() throws IOException {
+        logFile = Files.createTempFile("logging-benchmark", ".log");
+        context = new LoggerContext();
+
+        final var encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        final var file = new FileAppender<ILoggingEvent>();
+        file.setContext(context);
+        file.setFile(logFile.toString());
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if (mode.equals("ASYNC")) {
+            final var async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.setIncludeCallerData(false);
+            async.addAppender(file);
+            async.start();
+            appender = async;
+        }
+
+        logger = context.getLogger("com.reliaquest.api.service.EmployeeServiceImpl");
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+    }
+
+    @TearDown
+    public void close() throws IOException {
+        context.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public void info() {
+        logger.info("Successfully retrieved employee {} from {}", employeeId, shard);
+    }
+
+    @Benchmark
+    public void disabledDebugParameterized() {
+        logger.debug("Successfully retrieved employee {} from {}", employeeId, shard);
+    }
+
+    @Benchmark
+    public void disabledDebugConcatenated() {
+        logger.debug("Successfully retrieved employee " + employeeId + " from " + shard);
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Startup seeding time for the in-memory store, i.e. what {@code mock.employees.max} costs on boot.
+ * <p>
+ * Run with {@code ./gradlew server:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MockEmployeeGeneratorBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int maxEmployees;
+
+    private final MockEmployeeGenerator generator = new MockEmployeeGenerator(Locale.getDefault(), 42L);
+
+    @Benchmark
+    public List<MockEmployee> seed() {
+        return generator.generate(maxEmployees).collect(Collectors.toCollection(ArrayList::new));
+    }
+}
@@ -0,0 +1,81 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.Getter;
+import net.datafaker.Faker;
+
+/**
+ * Generates mock employees in parallel for startup seeding.
+ * <p>
+ * Employees are produced in fixed-size chunks, each drawn from a per-thread {@link Faker} that is reseeded from
+ * {@link #getSeed()} and the chunk number, so the same seed always yields the same employees in the same order
+ * regardless of how chunks are scheduled across cores.
+ */
+public class MockEmployeeGenerator {
+
+    private static final int CHUNK_SIZE = 4096;
+
+    private final Locale locale;
+
+    @Getter
+    private final long seed;
+
+    private final ThreadLocal<SeededFaker> fakers;
+
+    public MockEmployeeGenerator(Locale locale, long seed) {
+        this.locale = locale;
+        this.seed = seed;
+        this.fakers = ThreadLocal.withInitial(this::newSeededFaker);
+    }
+
+    public Stream<MockEmployee> generate(int count) {
+        final var chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> generateChunk(chunk, Math.min(CHUNK_SIZE, count - chunk * CHUNK_SIZE)))
+                .flatMap(List::stream);
+    }
+
+    private List<MockEmployee> generateChunk(int chunk, int size) {
+        final var seededFaker = fakers.get();
+        final var faker = seededFaker.faker();
+        final var random = seededFaker.random();
+        random.setSeed(seed + chunk * 0x9E3779B97F4A7C15L);
+
+        final var mockEmployees = new ArrayList<MockEmployee>(size);
+        for (int i = 0; i < size; i++) {
+            mockEmployees.add(new MockEmployee(
+                    randomUuid(random),
+                    faker.name().fullName(),
+                    faker.number().numberBetween(30000, 500000),
+                    faker.number().numberBetween(16, 70),
+                    faker.job().title(),
+                    ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                            faker.twitter().userName().toLowerCase())));
+        }
+        return mockEmployees;
+    }
+
+    /*
+     * Version 4 UUID drawn from the seeded random rather than UUID.randomUUID(), which cannot be reproduced.
+     */
+    private static UUID randomUuid(Random random) {
+        final var mostSignificantBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        final var leastSignificantBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private SeededFaker newSeededFaker() {
+        final var random = new Random();
+        return new SeededFaker(new Faker(locale, random), random);
+    }
+
+    private record SeededFaker(Faker faker, Random random) {}
+}
@@ -1,19 +1,25 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.reliaquest.server.fault.FaultProfile;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.InMemoryMockEmployeeStore;
+import com.reliaquest.server.store.MappedMockEmployeeStore;
+import com.reliaquest.server.store.MockEmployeeStore;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -21,39 +27,70 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@EnableConfigurationProperties(FaultProfile.class)
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    @Value("${mock.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
+
+    // Picked up by Spring Boot for the application's ObjectMapper.
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
+    @Bean
+    @ConditionalOnProperty(name = "mock.store.type", havingValue = "memory", matchIfMissing = true)
+    public MockEmployeeStore inMemoryMockEmployeeStore(
+            MockEmployeeGenerator generator, @Value("${mock.employees.max:20}") int maxEmployees) {
+        try (var mockEmployees = mockEmployees(generator, maxEmployees)) {
+            return new InMemoryMockEmployeeStore(mockEmployees.collect(Collectors.toCollection(ArrayList::new)));
+        }
+    }
+
     /*
-     * This list is modifiable by design for CRUD operations.
+     * Employees are only generated when the data file does not exist yet; later startups map the existing file.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    @ConditionalOnProperty(name = "mock.store.type", havingValue = "mapped")
+    public MockEmployeeStore mappedMockEmployeeStore(
+            MockEmployeeGenerator generator,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.store.directory:data}") Path directory)
+            throws IOException {
+        return MappedMockEmployeeStore.open(directory, () -> mockEmployees(generator, maxEmployees));
+    }
+
+    @Bean
+    public MockEmployeeGenerator mockEmployeeGenerator(@Value("${mock.employees.seed:#{null}}") Long seed) {
+        final var generator =
+                new MockEmployeeGenerator(Locale.getDefault(), seed != null ? seed : new Random().nextLong());
+        log.info("Mock employee seed: {}", generator.getSeed());
+        return generator;
+    }
+
+    private static Stream<MockEmployee> mockEmployees(MockEmployeeGenerator generator, int maxEmployees) {
+        final var started = System.nanoTime();
+        return generator
+                .generate(maxEmployees)
+                .peek(mockEmployee -> log.trace("Created employee: {}", mockEmployee))
+                .onClose(() -> log.info(
+                        "Generated {} mock employees in {} ms",
+                        maxEmployees,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)));
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        if (rateLimitEnabled) {
+            registry.addInterceptor(new RandomRequestLimitInterceptor()).excludePathPatterns("/admin/**");
+        }
     }
 }
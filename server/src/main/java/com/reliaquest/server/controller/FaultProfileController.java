@@ -0,0 +1,42 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.fault.FaultInjector;
+import com.reliaquest.server.fault.FaultProfile;
+import com.reliaquest.server.model.Response;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Inspects and replaces the installed {@link FaultProfile} at runtime. Requests to this endpoint are never faulted or
+ * rate limited. Like the faults themselves, and since it is not authenticated, it only exists with
+ * {@code mock.faults.enabled}.
+ */
+@RestController
+@ConditionalOnProperty(name = "mock.faults.enabled", havingValue = "true")
+@RequestMapping("/admin/faults")
+@RequiredArgsConstructor
+public class FaultProfileController {
+
+    private final FaultInjector faultInjector;
+
+    @GetMapping()
+    public Response<FaultProfile> getProfile() {
+        return Response.handledWith(faultInjector.profile());
+    }
+
+    @PutMapping()
+    public Response<FaultProfile> installProfile(@RequestBody FaultProfile profile) {
+        return Response.handledWith(faultInjector.install(profile));
+    }
+
+    @DeleteMapping()
+    public Response<FaultProfile> clearProfile() {
+        return Response.handledWith(faultInjector.install(FaultProfile.NONE));
+    }
+}
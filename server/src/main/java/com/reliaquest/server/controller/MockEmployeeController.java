@@ -4,18 +4,25 @@ import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.model.UpdateMockEmployeeInput;
+import com.reliaquest.server.service.MockEmployeeETags;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.MockEmployeeListBodyCache;
 import jakarta.validation.Valid;
-import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -26,17 +33,17 @@ public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
 
+    private final MockEmployeeListBodyCache mockEmployeeListBodyCache;
+
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<byte[]> getEmployees(
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return mockEmployeeListBodyCache.get().toResponse(acceptEncoding);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
-        return mockEmployeeService
-                .findById(uuid)
-                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
-                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+        return withETag(mockEmployeeService.findById(uuid));
     }
 
     @PostMapping()
@@ -44,8 +51,35 @@ public class MockEmployeeController {
         return Response.handledWith(mockEmployeeService.create(input));
     }
 
+    /*
+     * Updates honour If-Match with the ETag of a previous read or update, answering 412 when the employee has changed
+     * since; without it the last write wins.
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<Response<MockEmployee>> replaceEmployee(
+            @PathVariable("id") UUID uuid,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody CreateMockEmployeeInput input) {
+        return withETag(mockEmployeeService.replace(uuid, ifMatch, input));
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<Response<MockEmployee>> updateEmployee(
+            @PathVariable("id") UUID uuid,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody UpdateMockEmployeeInput input) {
+        return withETag(mockEmployeeService.patch(uuid, ifMatch, input));
+    }
+
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    private static ResponseEntity<Response<MockEmployee>> withETag(Optional<MockEmployee> mockEmployee) {
+        return mockEmployee
+                .map(employee ->
+                        ResponseEntity.ok().eTag(MockEmployeeETags.of(employee)).body(Response.handledWith(employee)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    }
 }
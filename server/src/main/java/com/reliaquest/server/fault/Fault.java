@@ -0,0 +1,8 @@
+package com.reliaquest.server.fault;
+
+/**
+ * Faults drawn for a single request.
+ *
+ * @param errorStatus status to answer with instead of handling the request, or 0
+ */
+public record Fault(long delayMillis, int errorStatus, boolean reset, int dripBytesPerSecond) {}
@@ -0,0 +1,62 @@
+package com.reliaquest.server.fault;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.random.RandomGenerator;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the installed {@link FaultProfile} and draws the faults for each request it matches.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mock.faults.enabled", havingValue = "true")
+public class FaultInjector {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final AtomicReference<Installed> installed = new AtomicReference<>();
+
+    public FaultInjector(FaultProfile profile) {
+        install(profile);
+    }
+
+    public FaultProfile profile() {
+        return installed.get().profile();
+    }
+
+    /**
+     * Replaces the profile and restarts its request sequence. Returns the installed profile, with the seed that was
+     * chosen if it had none.
+     */
+    public FaultProfile install(@NonNull FaultProfile profile) {
+        final var seeded = profile.seed() != null
+                ? profile
+                : profile.withSeed(RandomGenerator.getDefault().nextLong());
+        installed.set(new Installed(seeded, new AtomicLong()));
+        if (!seeded.rules().isEmpty()) {
+            log.info("Injecting faults with seed {}: {}", seeded.seed(), seeded.rules());
+        }
+        return seeded;
+    }
+
+    /**
+     * Returns the faults for a request, or null when no rule matches it.
+     */
+    public Fault next(String method, String path) {
+        final var current = installed.get();
+        for (final var rule : current.profile().rules()) {
+            if (rule.matches(method, path)) {
+                final var n = current.sequence().getAndIncrement();
+                return rule.draw(new SplittableRandom(current.profile().seed() + n * GOLDEN_GAMMA));
+            }
+        }
+        return null;
+    }
+
+    private record Installed(FaultProfile profile, AtomicLong sequence) {}
+}
@@ -0,0 +1,26 @@
+package com.reliaquest.server.fault;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Faults the mock server injects to reproduce slow and failing upstream behaviour offline, bound from
+ * {@code mock.faults} and replaceable at runtime through {@code /admin/faults}.
+ * <p>
+ * Rules are tried in order and the first one matching a request's method and path applies. The faults drawn for the
+ * n-th matching request depend only on {@code seed} and n, so a run can be reproduced by installing the same profile
+ * with the same seed; without one a random seed is chosen and reported back.
+ */
+@ConfigurationProperties(prefix = "mock.faults")
+public record FaultProfile(Long seed, List<FaultRule> rules) {
+
+    public static final FaultProfile NONE = new FaultProfile(null, List.of());
+
+    public FaultProfile {
+        rules = rules == null ? List.of() : List.copyOf(rules);
+    }
+
+    FaultProfile withSeed(long seed) {
+        return new FaultProfile(seed, rules);
+    }
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.server.fault;
+
+import java.util.random.RandomGenerator;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * Faults for requests matching {@code method} (any when absent) and the Ant-style {@code path} pattern.
+ *
+ * @param latency delay added before the request is handled, if any
+ * @param errorRate share of requests answered with {@code errorStatus} (503 by default) instead of being handled
+ * @param resetRate share of requests whose response is cut off after a few bytes and the connection closed
+ * @param dripBytesPerSecond when positive, the rate at which response bodies are trickled out
+ */
+public record FaultRule(
+        String method,
+        String path,
+        Latency latency,
+        double errorRate,
+        Integer errorStatus,
+        double resetRate,
+        int dripBytesPerSecond) {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    public FaultRule {
+        path = path == null ? "/**" : path;
+        errorStatus = errorStatus == null ? 503 : errorStatus;
+        checkRate("errorRate", errorRate);
+        checkRate("resetRate", resetRate);
+        if (errorStatus < 400 || errorStatus > 599) {
+            throw new IllegalArgumentException("errorStatus must be a 4xx or 5xx status, was " + errorStatus);
+        }
+        if (dripBytesPerSecond < 0) {
+            throw new IllegalArgumentException("dripBytesPerSecond must not be negative, was " + dripBytesPerSecond);
+        }
+    }
+
+    boolean matches(String method, String path) {
+        return (this.method == null || this.method.equalsIgnoreCase(method)) && PATH_MATCHER.match(this.path, path);
+    }
+
+    Fault draw(RandomGenerator random) {
+        final var delayMillis = latency == null ? 0 : latency.sampleMillis(random);
+        final var reset = random.nextDouble() < resetRate;
+        final var error = random.nextDouble() < errorRate;
+        return new Fault(delayMillis, !reset && error ? errorStatus : 0, reset, dripBytesPerSecond);
+    }
+
+    private static void checkRate(String name, double rate) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException(name + " must be between 0 and 1, was " + rate);
+        }
+    }
+
+    /**
+     * Latency distribution in milliseconds: {@code FIXED} always waits {@code millis}, {@code UNIFORM} waits
+     * {@code millis} plus or minus up to {@code spread}, {@code EXPONENTIAL} waits {@code millis} on average and
+     * {@code LOG_NORMAL} has median {@code millis} and shape {@code spread}, giving the long tail of real services.
+     */
+    public record Latency(Distribution distribution, double millis, double spread) {
+
+        public Latency {
+            distribution = distribution == null ? Distribution.FIXED : distribution;
+            if (millis < 0 || spread < 0) {
+                throw new IllegalArgumentException("Latency millis and spread must not be negative");
+            }
+        }
+
+        long sampleMillis(RandomGenerator random) {
+            final var sample =
+                    switch (distribution) {
+                        case FIXED -> millis;
+                        case UNIFORM -> millis + spread * (2 * random.nextDouble() - 1);
+                        case EXPONENTIAL -> random.nextExponential() * millis;
+                        case LOG_NORMAL -> millis * Math.exp(spread * random.nextGaussian());
+                    };
+            return Math.max(0, Math.round(sample));
+        }
+
+        public enum Distribution {
+            FIXED,
+            UNIFORM,
+            EXPONENTIAL,
+            LOG_NORMAL
+        }
+    }
+}
@@ -8,6 +8,11 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NonNull;
 
+/**
+ * Employee served by the mock API. The {@link com.reliaquest.server.store.MappedMockEmployeeStore mapped store} keeps at
+ * most 62 bytes of UTF-8 for {@code name}, 126 for {@code title} and 94 for {@code email}, and cuts longer text on a
+ * character boundary.
+ */
 @Data
 @AllArgsConstructor
 @Builder(toBuilder = true)
@@ -0,0 +1,26 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+/**
+ * Partial update of an employee; fields left out keep their current value.
+ */
+@Data
+public class UpdateMockEmployeeInput {
+
+    @Pattern(regexp = ".*\\S.*", message = "must not be blank")
+    private String name;
+
+    @Positive private Integer salary;
+
+    @Min(16)
+    @Max(75)
+    private Integer age;
+
+    @Pattern(regexp = ".*\\S.*", message = "must not be blank")
+    private String title;
+}
@@ -0,0 +1,86 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Strong entity tags for single employees, derived from their content so that every store can provide them without
+ * tracking a revision per employee.
+ */
+public final class MockEmployeeETags {
+
+    private MockEmployeeETags() {}
+
+    public static String of(MockEmployee mockEmployee) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        // Every serialized field with a presence byte, and text with its length, so no two employees share an input.
+        update(digest, mockEmployee.getId());
+        update(digest, mockEmployee.getName());
+        update(digest, mockEmployee.getSalary());
+        update(digest, mockEmployee.getAge());
+        update(digest, mockEmployee.getTitle());
+        update(digest, mockEmployee.getEmail());
+        return '"' + HexFormat.of().formatHex(digest.digest(), 0, 8) + '"';
+    }
+
+    /**
+     * Whether an {@code If-Match} header value, a list of entity tags or {@code *}, matches the employee. Weak tags
+     * never match, as {@code If-Match} requires strong comparison.
+     */
+    public static boolean matches(String ifMatch, MockEmployee mockEmployee) {
+        final var eTag = of(mockEmployee);
+        for (final var candidate : ifMatch.split(",")) {
+            final var trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void update(MessageDigest digest, UUID value) {
+        if (value == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        digest.update(ByteBuffer.allocate(1 + 2 * Long.BYTES)
+                .put((byte) 1)
+                .putLong(value.getMostSignificantBits())
+                .putLong(value.getLeastSignificantBits())
+                .array());
+    }
+
+    private static void update(MessageDigest digest, Integer value) {
+        if (value == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        digest.update(ByteBuffer.allocate(1 + Integer.BYTES)
+                .put((byte) 1)
+                .putInt(value)
+                .array());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(1 + Integer.BYTES)
+                .put((byte) 1)
+                .putInt(bytes.length)
+                .array());
+        digest.update(bytes);
+    }
+}
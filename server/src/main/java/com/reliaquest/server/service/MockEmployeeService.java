@@ -4,11 +4,13 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.UpdateMockEmployeeInput;
+import com.reliaquest.server.store.MockEmployeeStore;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.function.UnaryOperator;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,14 +24,18 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore mockEmployeeStore;
+
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployeeStore.findAll();
+    }
+
+    public long getVersion() {
+        return mockEmployeeStore.version();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeStore.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,18 +43,67 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        mockEmployeeStore.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /**
+     * Replaces the name, salary, age and title of employee {@code uuid}, provided it still matches {@code ifMatch} when
+     * given. Returns empty when there is no such employee.
+     */
+    public Optional<MockEmployee> replace(@NonNull UUID uuid, String ifMatch, @NonNull CreateMockEmployeeInput input) {
+        return update(uuid, ifMatch, mockEmployee -> mockEmployee.toBuilder()
+                .name(input.getName())
+                .salary(input.getSalary())
+                .age(input.getAge())
+                .title(input.getTitle())
+                .build());
+    }
+
+    /**
+     * Like {@link #replace} but only changes the fields present in {@code input}.
+     */
+    public Optional<MockEmployee> patch(@NonNull UUID uuid, String ifMatch, @NonNull UpdateMockEmployeeInput input) {
+        return update(uuid, ifMatch, mockEmployee -> mockEmployee.toBuilder()
+                .name(Objects.requireNonNullElse(input.getName(), mockEmployee.getName()))
+                .salary(Objects.requireNonNullElse(input.getSalary(), mockEmployee.getSalary()))
+                .age(Objects.requireNonNullElse(input.getAge(), mockEmployee.getAge()))
+                .title(Objects.requireNonNullElse(input.getTitle(), mockEmployee.getTitle()))
+                .build());
+    }
+
+    /*
+     * Optimistic read-modify-write: the change is applied to the employee as read and only stored if nobody replaced it
+     * in between. Without a precondition a lost race is retried on the newer employee; with one, the retry fails the
+     * precondition instead of overwriting a change the client has not seen.
+     */
+    private Optional<MockEmployee> update(UUID uuid, String ifMatch, UnaryOperator<MockEmployee> change) {
+        while (true) {
+            final var current = mockEmployeeStore.findById(uuid);
+            if (current.isEmpty()) {
+                return Optional.empty();
+            }
+            if (ifMatch != null && !MockEmployeeETags.matches(ifMatch, current.get())) {
+                throw new StaleMockEmployeeException(
+                        "Employee " + uuid + " was modified, fetch it again before updating",
+                        MockEmployeeETags.of(current.get()));
+            }
+            final var updated = change.apply(current.get());
+            if (mockEmployeeStore.replace(current.get(), updated)) {
+                log.debug("Updated employee: {}", updated);
+                return Optional.of(updated);
+            }
+        }
+    }
+
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
+        final var mockEmployee = mockEmployeeStore.findAll().stream()
                 .filter(employee -> Objects.nonNull(employee.getName())
                         && employee.getName().equalsIgnoreCase(input.getName()))
                 .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
+        if (mockEmployee.isPresent()
+                && mockEmployeeStore.remove(mockEmployee.get().getId())) {
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
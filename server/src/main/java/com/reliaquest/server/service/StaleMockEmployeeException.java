@@ -0,0 +1,18 @@
+package com.reliaquest.server.service;
+
+import lombok.Getter;
+
+/**
+ * Thrown when an update's {@code If-Match} precondition no longer holds because the employee changed since the client
+ * read it.
+ */
+@Getter
+public class StaleMockEmployeeException extends RuntimeException {
+
+    private final String currentETag;
+
+    public StaleMockEmployeeException(String message, String currentETag) {
+        super(message);
+        this.currentETag = currentETag;
+    }
+}
@@ -0,0 +1,202 @@
+package com.reliaquest.server.store;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Persistent map from employee id to slot: a hash array mapped trie whose updates copy only the nodes on the path to
+ * the changed key and share everything else with the previous version.
+ * <p>
+ * Each level consumes five bits of the id, after both halves went through a bijective mixer so that sequential or
+ * clustered ids still spread out. Thirteen levels cover the high half and thirteen the low half, so distinct ids always
+ * part ways at some level and no collision handling is needed.
+ */
+final class EmployeeIdTrie {
+
+    static final EmployeeIdTrie EMPTY = new EmployeeIdTrie(null, 0);
+
+    private static final int BITS = 5;
+    private static final int LEVELS_PER_HALF = 13;
+
+    private final Node root;
+    private final int size;
+
+    private EmployeeIdTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the slot of {@code id}, or {@code -1}.
+     */
+    int get(UUID id) {
+        final var high = mix(id.getMostSignificantBits());
+        final var low = mix(id.getLeastSignificantBits());
+        var node = root;
+        for (int level = 0; node != null; level++) {
+            final var bit = bit(high, low, level);
+            if ((node.bitmap & bit) == 0) {
+                return -1;
+            }
+            final var child = node.children[node.index(bit)];
+            if (child instanceof Entry entry) {
+                return entry.id.equals(id) ? entry.slot : -1;
+            }
+            node = (Node) child;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of nodes on the path to {@code id}, or {@code -1} when it is absent.
+     */
+    int depth(UUID id) {
+        final var high = mix(id.getMostSignificantBits());
+        final var low = mix(id.getLeastSignificantBits());
+        var node = root;
+        for (int level = 0; node != null; level++) {
+            final var bit = bit(high, low, level);
+            if ((node.bitmap & bit) == 0) {
+                return -1;
+            }
+            final var child = node.children[node.index(bit)];
+            if (child instanceof Entry entry) {
+                return entry.id.equals(id) ? level + 1 : -1;
+            }
+            node = (Node) child;
+        }
+        return -1;
+    }
+
+    EmployeeIdTrie with(UUID id, int slot) {
+        final var entry = new Entry(id, mix(id.getMostSignificantBits()), mix(id.getLeastSignificantBits()), slot);
+        final var added = new boolean[1];
+        final var newRoot = put(root == null ? Node.EMPTY : root, entry, 0, added);
+        return new EmployeeIdTrie(newRoot, added[0] ? size + 1 : size);
+    }
+
+    EmployeeIdTrie without(UUID id) {
+        if (root == null || get(id) < 0) {
+            return this;
+        }
+        final var remaining = remove(root, id, mix(id.getMostSignificantBits()), mix(id.getLeastSignificantBits()), 0);
+        if (remaining == null) {
+            return EMPTY;
+        }
+        return new EmployeeIdTrie(
+                remaining instanceof Node node ? node : Node.EMPTY.with(bit(remaining, 0), remaining), size - 1);
+    }
+
+    private static Node put(Node node, Entry entry, int level, boolean[] added) {
+        final var bit = bit(entry.high, entry.low, level);
+        if ((node.bitmap & bit) == 0) {
+            added[0] = true;
+            return node.with(bit, entry);
+        }
+        final var child = node.children[node.index(bit)];
+        if (child instanceof Entry existing) {
+            if (existing.id.equals(entry.id)) {
+                return node.replace(bit, entry);
+            }
+            added[0] = true;
+            return node.replace(bit, split(existing, entry, level + 1));
+        }
+        return node.replace(bit, put((Node) child, entry, level + 1, added));
+    }
+
+    private static Node split(Entry first, Entry second, int level) {
+        final var firstBit = bit(first.high, first.low, level);
+        final var secondBit = bit(second.high, second.low, level);
+        if (firstBit == secondBit) {
+            return Node.EMPTY.with(firstBit, split(first, second, level + 1));
+        }
+        return Node.EMPTY.with(firstBit, first).with(secondBit, second);
+    }
+
+    /*
+     * Returns the node without the id, null when nothing is left, or the single remaining entry so the caller can pull
+     * it up instead of keeping a chain of one-child nodes.
+     */
+    private static Object remove(Node node, UUID id, long high, long low, int level) {
+        final var bit = bit(high, low, level);
+        final var child = node.children[node.index(bit)];
+        final Object replacement = child instanceof Entry ? null : remove((Node) child, id, high, low, level + 1);
+        if (replacement == null) {
+            final var remaining = node.without(bit);
+            if (remaining.children.length == 0) {
+                return null;
+            }
+            return remaining.children.length == 1 && remaining.children[0] instanceof Entry
+                    ? remaining.children[0]
+                    : remaining;
+        }
+        if (replacement instanceof Entry && node.children.length == 1) {
+            return replacement;
+        }
+        return node.replace(bit, replacement);
+    }
+
+    private static int bit(Object entry, int level) {
+        final var e = (Entry) entry;
+        return bit(e.high, e.low, level);
+    }
+
+    private static int bit(long high, long low, int level) {
+        final var half = level < LEVELS_PER_HALF ? high : low;
+        final var shift = (level % LEVELS_PER_HALF) * BITS;
+        return 1 << (int) ((half >>> shift) & 31);
+    }
+
+    // SplitMix64 finalizer; bijective, so distinct halves stay distinct.
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    private record Entry(UUID id, long high, long low, int slot) {}
+
+    private static final class Node {
+
+        static final Node EMPTY = new Node(0, new Object[0]);
+
+        final int bitmap;
+        final Object[] children;
+
+        Node(int bitmap, Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        Node with(int bit, Object child) {
+            final var index = index(bit);
+            final var copy = new Object[children.length + 1];
+            System.arraycopy(children, 0, copy, 0, index);
+            copy[index] = child;
+            System.arraycopy(children, index, copy, index + 1, children.length - index);
+            return new Node(bitmap | bit, copy);
+        }
+
+        Node replace(int bit, Object child) {
+            final var copy = Arrays.copyOf(children, children.length);
+            copy[index(bit)] = child;
+            return new Node(bitmap, copy);
+        }
+
+        Node without(int bit) {
+            final var index = index(bit);
+            final var copy = new Object[children.length - 1];
+            System.arraycopy(children, 0, copy, 0, index);
+            System.arraycopy(children, index + 1, copy, index, children.length - index - 1);
+            return new Node(bitmap & ~bit, copy);
+        }
+    }
+}
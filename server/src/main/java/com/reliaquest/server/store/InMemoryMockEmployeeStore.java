@@ -0,0 +1,73 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.NonNull;
+
+/**
+ * Heap-backed {@link MockEmployeeStore} that publishes every change as a new {@link MockEmployeeSnapshot}.
+ * <p>
+ * Reads take the current snapshot without locking and see a consistent list even while writes proceed; writes derive
+ * the next snapshot from the current one and install it with a compare-and-set, retrying if another write won.
+ */
+public class InMemoryMockEmployeeStore implements MockEmployeeStore {
+
+    private final AtomicReference<MockEmployeeSnapshot> snapshot;
+
+    public InMemoryMockEmployeeStore(@NonNull List<MockEmployee> mockEmployees) {
+        this.snapshot = new AtomicReference<>(MockEmployeeSnapshot.of(0, mockEmployees));
+    }
+
+    @Override
+    public List<MockEmployee> findAll() {
+        return snapshot.get().employees();
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(@NonNull UUID uuid) {
+        return snapshot.get().findById(uuid);
+    }
+
+    @Override
+    public void add(@NonNull MockEmployee mockEmployee) {
+        snapshot.updateAndGet(current -> current.with(mockEmployee));
+    }
+
+    @Override
+    public boolean remove(@NonNull UUID uuid) {
+        while (true) {
+            final var current = snapshot.get();
+            final var next = current.without(uuid);
+            if (next == current) {
+                return false;
+            }
+            if (snapshot.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean replace(@NonNull MockEmployee expected, @NonNull MockEmployee replacement) {
+        if (!replacement.getId().equals(expected.getId())) {
+            throw new IllegalArgumentException("Replacement must keep the employee id " + expected.getId());
+        }
+        while (true) {
+            final var current = snapshot.get();
+            if (current.findById(expected.getId()).filter(expected::equals).isEmpty()) {
+                return false;
+            }
+            if (snapshot.compareAndSet(current, current.with(replacement))) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public long version() {
+        return snapshot.get().version();
+    }
+}
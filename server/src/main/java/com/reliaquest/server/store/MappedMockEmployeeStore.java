@@ -0,0 +1,411 @@
+package com.reliaquest.server.store;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persistent {@link MockEmployeeStore} that survives restarts without holding the dataset on the heap.
+ * <p>
+ * Employees live in {@value #DATA_FILE}, a file of fixed-width records (see {@link MockEmployeeRecords}) that is
+ * memory-mapped on startup instead of being regenerated. Creates, updates and deletes are appended to
+ * {@value #LOG_FILE} and replayed on top of the mapped records when the store is opened; deletes of mapped records also
+ * flip the record's flag in place, and updates apply as a delete followed by a create, moving the employee to the
+ * end. On {@link #close()} the log is compacted back into the data file.
+ * <p>
+ * Log writes are not forced to disk, so the store survives process restarts but not necessarily a host crash.
+ */
+@Slf4j
+public class MappedMockEmployeeStore implements MockEmployeeStore, Closeable {
+
+    static final String DATA_FILE = "employees.dat";
+    static final String LOG_FILE = "employees.log";
+
+    private static final int MAGIC = 0x4D454D50;
+    private static final int FORMAT_VERSION = 1;
+    private static final int RECORD_SIZE = MockEmployeeRecords.RECORD_SIZE;
+    private static final int HEADER_SIZE = RECORD_SIZE;
+
+    // A single mapping is limited to 2 GiB, so records are mapped in segments of 2^21 records (640 MiB).
+    private static final int SEGMENT_SHIFT = 21;
+    private static final int SEGMENT_RECORDS = 1 << SEGMENT_SHIFT;
+    private static final int WRITE_BATCH_RECORDS = 1024;
+
+    private static final byte LOG_CREATE = 1;
+    private static final byte LOG_DELETE = 2;
+    private static final byte LOG_UPDATE = 3;
+    private static final int LOG_ENTRY_SIZE = 1 + RECORD_SIZE;
+
+    private final Path dataFile;
+    private final FileChannel dataChannel;
+    private final FileChannel logChannel;
+    private final MappedByteBuffer[] segments;
+    private final int mappedCount;
+    private final SlotIndex mappedIndex;
+    private final Map<UUID, MockEmployee> appended = new LinkedHashMap<>();
+    private final ByteBuffer logEntry = ByteBuffer.allocate(LOG_ENTRY_SIZE);
+    private long version;
+
+    private MappedMockEmployeeStore(Path dataFile, FileChannel dataChannel, FileChannel logChannel) throws IOException {
+        this.dataFile = dataFile;
+        this.dataChannel = dataChannel;
+        this.logChannel = logChannel;
+        this.mappedCount = readHeader(dataChannel);
+        this.segments = map(dataChannel, mappedCount);
+        this.mappedIndex = new SlotIndex(mappedCount);
+        for (int slot = 0; slot < mappedCount; slot++) {
+            final var position = position(slot);
+            mappedIndex.put(
+                    MockEmployeeRecords.idMostSignificantBits(segment(slot), position),
+                    MockEmployeeRecords.idLeastSignificantBits(segment(slot), position),
+                    slot);
+        }
+        replayLog();
+    }
+
+    /**
+     * Opens the store in {@code directory}, writing the employees produced by {@code seed} to a new data file when
+     * none exists yet.
+     */
+    public static MappedMockEmployeeStore open(@NonNull Path directory, @NonNull Supplier<Stream<MockEmployee>> seed)
+            throws IOException {
+        Files.createDirectories(directory);
+        final var dataFile = directory.resolve(DATA_FILE);
+        if (Files.notExists(dataFile)) {
+            log.info("No mock employee data file found, seeding {}", dataFile);
+            writeDataFile(dataFile, seed.get());
+        }
+
+        final var dataChannel = FileChannel.open(dataFile, READ, WRITE);
+        try {
+            final var logChannel = FileChannel.open(directory.resolve(LOG_FILE), CREATE, READ, WRITE);
+            final var store = new MappedMockEmployeeStore(dataFile, dataChannel, logChannel);
+            log.info("Mapped {} mock employees from {}", store.mappedCount, dataFile);
+            return store;
+        } catch (IOException | RuntimeException e) {
+            dataChannel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public synchronized List<MockEmployee> findAll() {
+        final var mockEmployees = new ArrayList<MockEmployee>(mappedCount + appended.size());
+        liveMapped().forEach(mockEmployees::add);
+        mockEmployees.addAll(appended.values());
+        return mockEmployees;
+    }
+
+    @Override
+    public synchronized Optional<MockEmployee> findById(@NonNull UUID uuid) {
+        final var mockEmployee = appended.get(uuid);
+        if (mockEmployee != null) {
+            return Optional.of(mockEmployee);
+        }
+        final var slot = liveSlot(uuid);
+        return slot < 0 ? Optional.empty() : Optional.of(MockEmployeeRecords.read(segment(slot), position(slot)));
+    }
+
+    @Override
+    public synchronized void add(@NonNull MockEmployee mockEmployee) {
+        prepareLogEntry(LOG_CREATE);
+        MockEmployeeRecords.write(logEntry, 1, mockEmployee);
+        appendLogEntry();
+        appended.put(mockEmployee.getId(), mockEmployee);
+        version++;
+    }
+
+    @Override
+    public synchronized boolean remove(@NonNull UUID uuid) {
+        if (!appended.containsKey(uuid) && liveSlot(uuid) < 0) {
+            return false;
+        }
+        prepareLogEntry(LOG_DELETE);
+        MockEmployeeRecords.writeId(logEntry, 1, uuid);
+        appendLogEntry();
+        version++;
+        return removeInternal(uuid);
+    }
+
+    @Override
+    public synchronized boolean replace(@NonNull MockEmployee expected, @NonNull MockEmployee replacement) {
+        if (!replacement.getId().equals(expected.getId())) {
+            throw new IllegalArgumentException("Replacement must keep the employee id " + expected.getId());
+        }
+        if (findById(expected.getId()).filter(expected::equals).isEmpty()) {
+            return false;
+        }
+        prepareLogEntry(LOG_UPDATE);
+        MockEmployeeRecords.write(logEntry, 1, replacement);
+        appendLogEntry();
+        removeInternal(replacement.getId());
+        appended.put(replacement.getId(), replacement);
+        version++;
+        return true;
+    }
+
+    @Override
+    public synchronized long version() {
+        return version;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try (dataChannel;
+                logChannel) {
+            if (logChannel.size() > 0) {
+                compact();
+            }
+        }
+    }
+
+    private void compact() throws IOException {
+        final var compacted = dataFile.resolveSibling(DATA_FILE + ".tmp");
+        writeDataFile(compacted, Stream.concat(liveMapped(), appended.values().stream()));
+        Files.move(compacted, dataFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        // Replaying creates and updates is idempotent, so a crash before this truncate does not duplicate employees.
+        logChannel.truncate(0);
+        log.info("Compacted mock employee log into {}", dataFile);
+    }
+
+    private boolean removeInternal(UUID uuid) {
+        if (appended.remove(uuid) != null) {
+            return true;
+        }
+        final var slot = liveSlot(uuid);
+        if (slot < 0) {
+            return false;
+        }
+        MockEmployeeRecords.markDeleted(segment(slot), position(slot));
+        return true;
+    }
+
+    private void replayLog() throws IOException {
+        final var size = logChannel.size();
+        long position = 0;
+        int replayed = 0;
+        while (position + LOG_ENTRY_SIZE <= size) {
+            logEntry.clear();
+            readFully(logChannel, logEntry, position);
+            final var operation = logEntry.get(0);
+            if (operation == LOG_CREATE) {
+                final var mockEmployee = MockEmployeeRecords.read(logEntry, 1);
+                if (liveSlot(mockEmployee.getId()) < 0) {
+                    appended.put(mockEmployee.getId(), mockEmployee);
+                }
+            } else if (operation == LOG_DELETE) {
+                removeInternal(MockEmployeeRecords.readId(logEntry, 1));
+            } else if (operation == LOG_UPDATE) {
+                final var mockEmployee = MockEmployeeRecords.read(logEntry, 1);
+                removeInternal(mockEmployee.getId());
+                appended.put(mockEmployee.getId(), mockEmployee);
+            }
+            position += LOG_ENTRY_SIZE;
+            replayed++;
+        }
+        if (position < size) {
+            log.warn("Discarding {} bytes of incomplete log entry", size - position);
+            logChannel.truncate(position);
+        }
+        logChannel.position(position);
+        if (replayed > 0) {
+            log.info("Replayed {} logged mock employee changes", replayed);
+        }
+    }
+
+    private void prepareLogEntry(byte operation) {
+        Arrays.fill(logEntry.array(), (byte) 0);
+        logEntry.clear();
+        logEntry.put(0, operation);
+    }
+
+    private void appendLogEntry() {
+        try {
+            while (logEntry.hasRemaining()) {
+                logChannel.write(logEntry);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to mock employee log", e);
+        }
+    }
+
+    private Stream<MockEmployee> liveMapped() {
+        return IntStream.range(0, mappedCount)
+                .filter(slot -> MockEmployeeRecords.isLive(segment(slot), position(slot)))
+                .mapToObj(slot -> MockEmployeeRecords.read(segment(slot), position(slot)));
+    }
+
+    private int liveSlot(UUID uuid) {
+        final var slot = mappedIndex.get(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        return slot >= 0 && MockEmployeeRecords.isLive(segment(slot), position(slot)) ? slot : -1;
+    }
+
+    private MappedByteBuffer segment(int slot) {
+        return segments[slot >>> SEGMENT_SHIFT];
+    }
+
+    private static int position(int slot) {
+        return (slot & (SEGMENT_RECORDS - 1)) * RECORD_SIZE;
+    }
+
+    private static int readHeader(FileChannel channel) throws IOException {
+        final var header = ByteBuffer.allocate(HEADER_SIZE);
+        readFully(channel, header, 0);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != FORMAT_VERSION || header.getInt(8) != RECORD_SIZE) {
+            throw new IOException("Unrecognized mock employee data file format");
+        }
+        final var count = header.getLong(16);
+        if (count < 0 || count > Integer.MAX_VALUE || HEADER_SIZE + count * RECORD_SIZE > channel.size()) {
+            throw new IOException("Corrupt mock employee data file, record count " + count);
+        }
+        return (int) count;
+    }
+
+    private static MappedByteBuffer[] map(FileChannel channel, int count) throws IOException {
+        final var segments = new MappedByteBuffer[(count + SEGMENT_RECORDS - 1) >>> SEGMENT_SHIFT];
+        for (int segment = 0; segment < segments.length; segment++) {
+            final var first = (long) segment << SEGMENT_SHIFT;
+            final var records = Math.min(SEGMENT_RECORDS, count - first);
+            segments[segment] = channel.map(
+                    FileChannel.MapMode.READ_WRITE, HEADER_SIZE + first * RECORD_SIZE, records * RECORD_SIZE);
+        }
+        return segments;
+    }
+
+    private static void writeDataFile(Path target, Stream<MockEmployee> mockEmployees) throws IOException {
+        try (mockEmployees;
+                var channel = FileChannel.open(target, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            final var writer = new RecordWriter(channel);
+            // forEachOrdered lets a parallel source generate ahead while records are written sequentially.
+            mockEmployees.forEachOrdered(writer::write);
+            writer.flush();
+
+            final var header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(0, MAGIC)
+                    .putInt(4, FORMAT_VERSION)
+                    .putInt(8, RECORD_SIZE)
+                    .putLong(16, writer.count);
+            header.position(HEADER_SIZE);
+            writeFully(channel, header, 0);
+            channel.force(true);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static long writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        buffer.flip();
+        long written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer, position + written);
+        }
+        buffer.clear();
+        return written;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+    }
+
+    private static final class RecordWriter {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BATCH_RECORDS * RECORD_SIZE);
+        private long position = HEADER_SIZE;
+        private long count;
+
+        RecordWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void write(MockEmployee mockEmployee) {
+            MockEmployeeRecords.write(buffer, buffer.position(), mockEmployee);
+            buffer.position(buffer.position() + RECORD_SIZE);
+            count++;
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+        }
+
+        void flush() {
+            try {
+                position += writeFully(channel, buffer, position);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Open-addressing hash from employee id to record slot, kept in primitive arrays so that indexing millions of
+     * mapped records does not allocate per-entry objects.
+     */
+    private static final class SlotIndex {
+
+        private final long[] mostSignificantBits;
+        private final long[] leastSignificantBits;
+        private final int[] slots;
+        private final int shift;
+
+        SlotIndex(int expected) {
+            final var bits = Math.max(1, 64 - Long.numberOfLeadingZeros(Math.max(1L, expected * 2L - 1)));
+            this.shift = 64 - bits;
+            this.mostSignificantBits = new long[1 << bits];
+            this.leastSignificantBits = new long[1 << bits];
+            this.slots = new int[1 << bits];
+        }
+
+        void put(long msb, long lsb, int slot) {
+            final var mask = slots.length - 1;
+            var i = bucket(msb, lsb);
+            while (slots[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            mostSignificantBits[i] = msb;
+            leastSignificantBits[i] = lsb;
+            slots[i] = slot + 1;
+        }
+
+        int get(long msb, long lsb) {
+            final var mask = slots.length - 1;
+            for (var i = bucket(msb, lsb); slots[i] != 0; i = (i + 1) & mask) {
+                if (mostSignificantBits[i] == msb && leastSignificantBits[i] == lsb) {
+                    return slots[i] - 1;
+                }
+            }
+            return -1;
+        }
+
+        private int bucket(long msb, long lsb) {
+            return (int) (((msb ^ lsb) * 0x9E3779B97F4A7C15L) >>> shift);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Fixed-width binary layout shared by the data file and the append-only log of {@link MappedMockEmployeeStore}.
+ * <pre>
+ *   offset  size  field
+ *        0     1  flags (bit 0: live, bits 1-5: salary, age, name, title, email is null)
+ *        8     8  id, most significant bits
+ *       16     8  id, least significant bits
+ *       24     4  salary
+ *       28     4  age
+ *       32    64  name  (2 byte length + UTF-8)
+ *       96   128  title (2 byte length + UTF-8)
+ *      224    96  email (2 byte length + UTF-8)
+ * </pre>
+ * Text that does not fit its field after the length is truncated on a character boundary, so names keep at most 62,
+ * titles 126 and emails 94 bytes of UTF-8. Null values are recorded in the flags.
+ */
+final class MockEmployeeRecords {
+
+    static final int RECORD_SIZE = 320;
+
+    static final byte LIVE = 1;
+    static final byte DELETED = 0;
+
+    private static final int SALARY_NULL = 1 << 1;
+    private static final int AGE_NULL = 1 << 2;
+    private static final int NAME_NULL = 1 << 3;
+    private static final int TITLE_NULL = 1 << 4;
+    private static final int EMAIL_NULL = 1 << 5;
+
+    private static final int FLAGS_OFFSET = 0;
+    private static final int ID_MSB_OFFSET = 8;
+    private static final int ID_LSB_OFFSET = 16;
+    private static final int SALARY_OFFSET = 24;
+    private static final int AGE_OFFSET = 28;
+    private static final int NAME_OFFSET = 32;
+    private static final int NAME_WIDTH = 64;
+    private static final int TITLE_OFFSET = 96;
+    private static final int TITLE_WIDTH = 128;
+    private static final int EMAIL_OFFSET = 224;
+    private static final int EMAIL_WIDTH = 96;
+
+    private MockEmployeeRecords() {}
+
+    static void write(ByteBuffer buffer, int position, MockEmployee mockEmployee) {
+        buffer.put(position + FLAGS_OFFSET, (byte) (LIVE | nullFlags(mockEmployee)));
+        buffer.putLong(position + ID_MSB_OFFSET, mockEmployee.getId().getMostSignificantBits());
+        buffer.putLong(position + ID_LSB_OFFSET, mockEmployee.getId().getLeastSignificantBits());
+        buffer.putInt(position + SALARY_OFFSET, valueOf(mockEmployee.getSalary()));
+        buffer.putInt(position + AGE_OFFSET, valueOf(mockEmployee.getAge()));
+        putText(buffer, position + NAME_OFFSET, NAME_WIDTH, mockEmployee.getName());
+        putText(buffer, position + TITLE_OFFSET, TITLE_WIDTH, mockEmployee.getTitle());
+        putText(buffer, position + EMAIL_OFFSET, EMAIL_WIDTH, mockEmployee.getEmail());
+    }
+
+    static void writeId(ByteBuffer buffer, int position, UUID uuid) {
+        buffer.put(position + FLAGS_OFFSET, DELETED);
+        buffer.putLong(position + ID_MSB_OFFSET, uuid.getMostSignificantBits());
+        buffer.putLong(position + ID_LSB_OFFSET, uuid.getLeastSignificantBits());
+    }
+
+    static MockEmployee read(ByteBuffer buffer, int position) {
+        final var flags = buffer.get(position + FLAGS_OFFSET);
+        return MockEmployee.builder()
+                .id(readId(buffer, position))
+                .salary((flags & SALARY_NULL) != 0 ? null : buffer.getInt(position + SALARY_OFFSET))
+                .age((flags & AGE_NULL) != 0 ? null : buffer.getInt(position + AGE_OFFSET))
+                .name((flags & NAME_NULL) != 0 ? null : getText(buffer, position + NAME_OFFSET))
+                .title((flags & TITLE_NULL) != 0 ? null : getText(buffer, position + TITLE_OFFSET))
+                .email((flags & EMAIL_NULL) != 0 ? null : getText(buffer, position + EMAIL_OFFSET))
+                .build();
+    }
+
+    static UUID readId(ByteBuffer buffer, int position) {
+        return new UUID(idMostSignificantBits(buffer, position), idLeastSignificantBits(buffer, position));
+    }
+
+    static long idMostSignificantBits(ByteBuffer buffer, int position) {
+        return buffer.getLong(position + ID_MSB_OFFSET);
+    }
+
+    static long idLeastSignificantBits(ByteBuffer buffer, int position) {
+        return buffer.getLong(position + ID_LSB_OFFSET);
+    }
+
+    static boolean isLive(ByteBuffer buffer, int position) {
+        return (buffer.get(position + FLAGS_OFFSET) & LIVE) != 0;
+    }
+
+    static void markDeleted(ByteBuffer buffer, int position) {
+        buffer.put(position + FLAGS_OFFSET, (byte) (buffer.get(position + FLAGS_OFFSET) & ~LIVE));
+    }
+
+    private static int nullFlags(MockEmployee mockEmployee) {
+        return (mockEmployee.getSalary() == null ? SALARY_NULL : 0)
+                | (mockEmployee.getAge() == null ? AGE_NULL : 0)
+                | (mockEmployee.getName() == null ? NAME_NULL : 0)
+                | (mockEmployee.getTitle() == null ? TITLE_NULL : 0)
+                | (mockEmployee.getEmail() == null ? EMAIL_NULL : 0);
+    }
+
+    private static int valueOf(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private static void putText(ByteBuffer buffer, int position, int width, String value) {
+        final var bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        var length = Math.min(bytes.length, width - Short.BYTES);
+        // Never split a multi-byte UTF-8 sequence: back off to the start of the truncated character.
+        while (length < bytes.length && length > 0 && (bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        buffer.putShort(position, (short) length);
+        buffer.put(position + Short.BYTES, bytes, 0, length);
+    }
+
+    private static String getText(ByteBuffer buffer, int position) {
+        final var bytes = new byte[buffer.getShort(position)];
+        buffer.get(position + Short.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
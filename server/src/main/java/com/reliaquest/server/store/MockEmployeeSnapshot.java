@@ -0,0 +1,130 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Immutable, versioned state of the {@link InMemoryMockEmployeeStore}.
+ * <p>
+ * Employees are kept in insertion order in fixed-size chunks of {@value #CHUNK_SIZE} slots, indexed by id through an
+ * {@link EmployeeIdTrie}. A change returns a new snapshot that copies the chunk spine, the one chunk it touches and
+ * the trie path to the id, and shares everything else with this one, so a write costs a few thousand reference copies
+ * regardless of how many employees there are. Deletes leave an empty slot behind; once more than half of the slots are
+ * empty the snapshot is rebuilt without them.
+ */
+public final class MockEmployeeSnapshot {
+
+    private static final int CHUNK_SHIFT = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    private final long version;
+    private final MockEmployee[][] chunks;
+    private final int slots;
+    private final EmployeeIdTrie index;
+
+    // Materialized on first read; racing readers build equal lists.
+    private volatile List<MockEmployee> employees;
+
+    private MockEmployeeSnapshot(long version, MockEmployee[][] chunks, int slots, EmployeeIdTrie index) {
+        this.version = version;
+        this.chunks = chunks;
+        this.slots = slots;
+        this.index = index;
+    }
+
+    public static MockEmployeeSnapshot of(long version, List<MockEmployee> mockEmployees) {
+        final var chunks = new MockEmployee[(mockEmployees.size() + CHUNK_SIZE - 1) >>> CHUNK_SHIFT][];
+        var index = EmployeeIdTrie.EMPTY;
+        var slots = 0;
+        for (final var mockEmployee : mockEmployees) {
+            final var existing = index.get(mockEmployee.getId());
+            final var slot = existing >= 0 ? existing : slots++;
+            if (chunks[slot >>> CHUNK_SHIFT] == null) {
+                chunks[slot >>> CHUNK_SHIFT] =
+                        new MockEmployee[Math.min(CHUNK_SIZE, mockEmployees.size() - (slot & -CHUNK_SIZE))];
+            }
+            chunks[slot >>> CHUNK_SHIFT][slot & (CHUNK_SIZE - 1)] = mockEmployee;
+            index = index.with(mockEmployee.getId(), slot);
+        }
+        return new MockEmployeeSnapshot(version, chunks, slots, index);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Returns the employees in insertion order as an unmodifiable list that stays valid while the store changes.
+     */
+    public List<MockEmployee> employees() {
+        var list = employees;
+        if (list == null) {
+            final var live = new ArrayList<MockEmployee>(size());
+            for (int slot = 0; slot < slots; slot++) {
+                final var mockEmployee = get(slot);
+                if (mockEmployee != null) {
+                    live.add(mockEmployee);
+                }
+            }
+            employees = list = Collections.unmodifiableList(live);
+        }
+        return list;
+    }
+
+    public Optional<MockEmployee> findById(UUID uuid) {
+        final var slot = index.get(uuid);
+        return slot < 0 ? Optional.empty() : Optional.of(get(slot));
+    }
+
+    /**
+     * Returns a snapshot with {@code mockEmployee} appended, or replacing the employee with the same id in place.
+     */
+    MockEmployeeSnapshot with(MockEmployee mockEmployee) {
+        final var existing = index.get(mockEmployee.getId());
+        if (existing >= 0) {
+            return new MockEmployeeSnapshot(version + 1, set(existing, mockEmployee), slots, index);
+        }
+        return new MockEmployeeSnapshot(
+                version + 1, set(slots, mockEmployee), slots + 1, index.with(mockEmployee.getId(), slots));
+    }
+
+    /**
+     * Returns a snapshot without the employee, or this snapshot when there is none with that id.
+     */
+    MockEmployeeSnapshot without(UUID uuid) {
+        final var slot = index.get(uuid);
+        if (slot < 0) {
+            return this;
+        }
+        final var removed = new MockEmployeeSnapshot(version + 1, set(slot, null), slots, index.without(uuid));
+        if (slots >= CHUNK_SIZE && removed.size() < slots / 2) {
+            return of(removed.version, removed.employees());
+        }
+        return removed;
+    }
+
+    private MockEmployee get(int slot) {
+        return chunks[slot >>> CHUNK_SHIFT][slot & (CHUNK_SIZE - 1)];
+    }
+
+    private MockEmployee[][] set(int slot, MockEmployee mockEmployee) {
+        final var chunk = slot >>> CHUNK_SHIFT;
+        final var offset = slot & (CHUNK_SIZE - 1);
+        final var copy = Arrays.copyOf(chunks, Math.max(chunks.length, chunk + 1));
+        // Only the last chunk can be short; it grows one slot per append until it is full.
+        copy[chunk] = copy[chunk] == null
+                ? new MockEmployee[1]
+                : Arrays.copyOf(copy[chunk], Math.max(copy[chunk].length, offset + 1));
+        copy[chunk][offset] = mockEmployee;
+        return copy;
+    }
+}
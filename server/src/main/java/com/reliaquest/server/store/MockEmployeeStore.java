@@ -0,0 +1,37 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * Backing storage for {@link MockEmployee} entities served by the mock API.
+ * <p>
+ * The default implementation keeps everything on the heap and is rebuilt on each startup; see
+ * {@link MappedMockEmployeeStore} for a persistent, memory-mapped alternative.
+ */
+public interface MockEmployeeStore {
+
+    List<MockEmployee> findAll();
+
+    Optional<MockEmployee> findById(@NonNull UUID uuid);
+
+    void add(@NonNull MockEmployee mockEmployee);
+
+    boolean remove(@NonNull UUID uuid);
+
+    /**
+     * Replaces {@code expected} with {@code replacement}, which has the same id, provided the stored employee still
+     * equals {@code expected}. Returns false when it was changed or removed in the meantime, so callers can detect lost
+     * updates without holding a lock across their read and write.
+     */
+    boolean replace(@NonNull MockEmployee expected, @NonNull MockEmployee replacement);
+
+    /**
+     * Returns a number that changes whenever employees are added, removed or replaced, so derived data such as
+     * serialized responses can be cached until it moves.
+     */
+    long version();
+}
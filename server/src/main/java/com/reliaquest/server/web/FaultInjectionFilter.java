@@ -0,0 +1,182 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.fault.Fault;
+import com.reliaquest.server.fault.FaultInjector;
+import com.reliaquest.server.model.Response;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Applies the faults drawn by the {@link FaultInjector} to matching requests: it waits out the latency, then either
+ * answers with the error status, cuts the response off, or handles the request while trickling the body out.
+ * <p>
+ * A cut-off response announces a longer body than it sends and asks for the connection to be closed, so clients fail
+ * with a premature end of stream as they would on a connection reset.
+ * <p>
+ * Only registered with {@code mock.faults.enabled}, and requests pass straight through while no rules are installed.
+ */
+@Component
+@ConditionalOnProperty(name = "mock.faults.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private static final String ADMIN_PATH = "/admin/";
+    private static final byte[] TRUNCATED_BODY = "{\"data\":[".getBytes(StandardCharsets.UTF_8);
+    private static final int DRIP_INTERVALS_PER_SECOND = 10;
+
+    private final FaultInjector faultInjector;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return faultInjector.profile().rules().isEmpty() || path(request).startsWith(ADMIN_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final var fault = faultInjector.next(request.getMethod(), path(request));
+        if (fault == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        sleep(TimeUnit.MILLISECONDS.toNanos(fault.delayMillis()));
+        if (fault.reset()) {
+            response.setHeader(HttpHeaders.CONNECTION, "close");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(TRUNCATED_BODY.length * 64);
+            response.getOutputStream().write(TRUNCATED_BODY);
+            response.flushBuffer();
+        } else if (fault.errorStatus() != 0) {
+            response.setStatus(fault.errorStatus());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(
+                    response.getOutputStream(), Response.error("Injected fault, status " + fault.errorStatus()));
+        } else if (fault.dripBytesPerSecond() > 0) {
+            chain.doFilter(request, new DripResponse(response, fault));
+        } else {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static void sleep(long nanos) throws InterruptedIOException {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while injecting latency");
+        }
+    }
+
+    private static final class DripResponse extends HttpServletResponseWrapper {
+
+        private final int bytesPerInterval;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        private DripResponse(HttpServletResponse response, Fault fault) {
+            super(response);
+            this.bytesPerInterval = Math.max(1, fault.dripBytesPerSecond() / DRIP_INTERVALS_PER_SECOND);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new DripOutputStream(super.getOutputStream(), bytesPerInterval);
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(
+                        new OutputStreamWriter(getOutputStream(), Charset.forName(getCharacterEncoding())));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            super.flushBuffer();
+        }
+    }
+
+    private static final class DripOutputStream extends ServletOutputStream {
+
+        private static final long INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1) / DRIP_INTERVALS_PER_SECOND;
+
+        private final ServletOutputStream delegate;
+        private final int bytesPerInterval;
+
+        private DripOutputStream(ServletOutputStream delegate, int bytesPerInterval) {
+            this.delegate = delegate;
+            this.bytesPerInterval = bytesPerInterval;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                final var chunk = Math.min(len, bytesPerInterval);
+                delegate.write(b, off, chunk);
+                delegate.flush();
+                sleep(INTERVAL_NANOS * chunk / bytesPerInterval);
+                off += chunk;
+                len -= chunk;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.reliaquest.common.web.CachedJsonBody;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Keeps the serialized employee list response for the current store version, so repeated list reads copy bytes
+ * instead of running Jackson and gzip over every employee. Compression follows the {@code server.compression}
+ * settings.
+ */
+@Slf4j
+@Component
+public class MockEmployeeListBodyCache {
+
+    private final MockEmployeeService mockEmployeeService;
+    private final ObjectWriter listWriter;
+    private final boolean compressionEnabled;
+    private final long compressionMinSize;
+
+    private volatile CachedJsonBody body;
+
+    public MockEmployeeListBodyCache(
+            MockEmployeeService mockEmployeeService,
+            ObjectMapper objectMapper,
+            @Value("${server.compression.enabled:false}") boolean compressionEnabled,
+            @Value("${server.compression.min-response-size:2KB}") DataSize compressionMinSize) {
+        this.mockEmployeeService = mockEmployeeService;
+        // Resolves the response serializer, and with it the employees' property names, at startup instead of on the
+        // first list read.
+        this.listWriter = objectMapper.writerFor(new TypeReference<Response<List<MockEmployee>>>() {});
+        this.compressionEnabled = compressionEnabled;
+        this.compressionMinSize = compressionMinSize.toBytes();
+    }
+
+    public CachedJsonBody get() {
+        final var version = mockEmployeeService.getVersion();
+        final var cached = body;
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+        synchronized (this) {
+            if (body == null || body.version() != version) {
+                // The version is read before the list, so the cached bytes are never older than the version says.
+                final var json = serialize();
+                body = new CachedJsonBody(version, json, compressionEnabled && json.length >= compressionMinSize);
+                log.debug("Serialized employee list for store version {} ({} bytes)", version, json.length);
+            }
+            return body;
+        }
+    }
+
+    private byte[] serialize() {
+        try {
+            return listWriter.writeValueAsBytes(Response.handledWith(mockEmployeeService.getMockEmployees()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize employee list", e);
+        }
+    }
+}
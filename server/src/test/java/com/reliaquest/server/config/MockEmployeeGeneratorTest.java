@@ -0,0 +1,51 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeGeneratorTest {
+
+    // Spans two chunks, so they may be generated on different threads.
+    private static final int COUNT = 5_000;
+
+    @Test
+    void generate_WhenSeedIsSame_ShouldReturnEqualEmployees() {
+        final var first = generate(42);
+
+        assertEquals(COUNT, first.size());
+        assertEquals(first, generate(42));
+        assertEquals(
+                first.subList(0, 10),
+                new MockEmployeeGenerator(Locale.US, 42).generate(10).toList());
+    }
+
+    @Test
+    void generate_WhenSeedDiffers_ShouldReturnDifferentEmployees() {
+        final var first = generate(42);
+        final var second = generate(43);
+
+        assertNotEquals(first, second);
+        assertNotEquals(first.get(0).getId(), second.get(0).getId());
+    }
+
+    @Test
+    void generate_WhenCalled_ShouldReturnDistinctVersion4Ids() {
+        final var ids = new HashSet<>();
+        for (final var mockEmployee : generate(42)) {
+            assertEquals(4, mockEmployee.getId().version());
+            assertEquals(2, mockEmployee.getId().variant());
+            ids.add(mockEmployee.getId());
+        }
+
+        assertEquals(COUNT, ids.size());
+    }
+
+    private static List<MockEmployee> generate(long seed) {
+        return new MockEmployeeGenerator(Locale.US, seed).generate(COUNT).toList();
+    }
+}
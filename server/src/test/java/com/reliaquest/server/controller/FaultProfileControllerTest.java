@@ -0,0 +1,66 @@
+package com.reliaquest.server.controller;
+
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.server.fault.FaultInjector;
+import com.reliaquest.server.fault.FaultProfile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class FaultProfileControllerTest {
+
+    private static final String PROFILE =
+            """
+            {
+                "seed": 7,
+                "rules": [
+                    {"method": "GET", "path": "/api/v1/employee/*", "errorRate": 0.5}
+                ]
+            }
+            """;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new FaultProfileController(new FaultInjector(FaultProfile.NONE)))
+                .build();
+    }
+
+    @Test
+    void installProfile_WhenProfileIsPut_ShouldServeItUntilDeleted() throws Exception {
+        mockMvc.perform(put("/admin/faults")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PROFILE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.seed").value(7))
+                .andExpect(jsonPath("$.data.rules[0].errorStatus").value(503));
+
+        mockMvc.perform(get("/admin/faults"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.seed").value(7))
+                .andExpect(jsonPath("$.data.rules[0].method").value("GET"))
+                .andExpect(jsonPath("$.data.rules[0].path").value("/api/v1/employee/*"))
+                .andExpect(jsonPath("$.data.rules[0].errorRate").value(0.5));
+
+        mockMvc.perform(delete("/admin/faults"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.rules", empty()));
+
+        mockMvc.perform(get("/admin/faults")).andExpect(status().isOk()).andExpect(jsonPath("$.data.rules", empty()));
+    }
+
+    @Test
+    void installProfile_WhenSeedIsMissing_ShouldReportTheChosenSeed() throws Exception {
+        mockMvc.perform(put("/admin/faults")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"rules\": []}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.seed").isNumber());
+    }
+}
@@ -0,0 +1,152 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.UpdateMockEmployeeInput;
+import com.reliaquest.server.service.MockEmployeeETags;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.StaleMockEmployeeException;
+import com.reliaquest.server.store.InMemoryMockEmployeeStore;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.web.MockEmployeeListBodyCache;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class MockEmployeeControllerTest {
+
+    private final MockEmployee sampleEmployee = MockEmployee.builder()
+            .id(UUID.randomUUID())
+            .name("John Doe")
+            .salary(50_000)
+            .age(30)
+            .title("Engineer")
+            .email("jdoe@company.com")
+            .build();
+
+    private MockEmployeeStore mockEmployeeStore;
+    private MockEmployeeController mockEmployeeController;
+
+    @BeforeEach
+    void setUp() {
+        mockEmployeeStore = new InMemoryMockEmployeeStore(List.of(sampleEmployee));
+        mockEmployeeController = new MockEmployeeController(
+                new MockEmployeeService(new Faker(Locale.getDefault()), mockEmployeeStore),
+                mock(MockEmployeeListBodyCache.class));
+    }
+
+    @Test
+    void replaceEmployee_WhenIfMatchIsCurrent_ShouldReplace() {
+        final var response = mockEmployeeController.replaceEmployee(
+                sampleEmployee.getId(), MockEmployeeETags.of(sampleEmployee), replacement());
+
+        final var replaced = response.getBody().data();
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("Jane Doe", replaced.getName());
+        assertEquals(sampleEmployee.getEmail(), replaced.getEmail());
+        assertEquals(MockEmployeeETags.of(replaced), response.getHeaders().getETag());
+        assertEquals(
+                replaced, mockEmployeeStore.findById(sampleEmployee.getId()).orElseThrow());
+    }
+
+    @Test
+    void replaceEmployee_WhenIfMatchIsStale_ShouldRejectWithCurrentETag() {
+        final var staleETag = MockEmployeeETags.of(sampleEmployee);
+        mockEmployeeController.replaceEmployee(sampleEmployee.getId(), null, replacement());
+        final var current = mockEmployeeStore.findById(sampleEmployee.getId()).orElseThrow();
+
+        final var exception = assertThrows(
+                StaleMockEmployeeException.class,
+                () -> mockEmployeeController.replaceEmployee(sampleEmployee.getId(), staleETag, replacement()));
+
+        final var response = new MockEmployeeControllerAdvice().handleStaleEmployee(exception);
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        assertEquals(MockEmployeeETags.of(current), response.getHeaders().getETag());
+        assertEquals(current, mockEmployeeStore.findById(sampleEmployee.getId()).orElseThrow());
+    }
+
+    @Test
+    void replaceEmployee_WhenIfMatchIsWildcard_ShouldReplace() {
+        mockEmployeeController.updateEmployee(sampleEmployee.getId(), null, salary(60_000));
+
+        final var response = mockEmployeeController.replaceEmployee(sampleEmployee.getId(), "*", replacement());
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("Jane Doe", response.getBody().data().getName());
+    }
+
+    @Test
+    void replaceEmployee_WhenEmployeeIsMissing_ShouldReturnNotFound() {
+        final var response = mockEmployeeController.replaceEmployee(UUID.randomUUID(), "*", replacement());
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    void updateEmployee_WhenIfMatchIsCurrent_ShouldChangeOnlyGivenFields() {
+        final var response = mockEmployeeController.updateEmployee(
+                sampleEmployee.getId(),
+                "\"0000000000000000\", " + MockEmployeeETags.of(sampleEmployee),
+                salary(60_000));
+
+        final var updated = response.getBody().data();
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(60_000, updated.getSalary());
+        assertEquals(sampleEmployee.getName(), updated.getName());
+        assertEquals(MockEmployeeETags.of(updated), response.getHeaders().getETag());
+    }
+
+    @Test
+    void updateEmployee_WhenIfMatchIsStale_ShouldReject() {
+        final var staleETag = MockEmployeeETags.of(sampleEmployee);
+        mockEmployeeController.updateEmployee(sampleEmployee.getId(), null, salary(60_000));
+
+        assertThrows(
+                StaleMockEmployeeException.class,
+                () -> mockEmployeeController.updateEmployee(sampleEmployee.getId(), staleETag, salary(70_000)));
+        assertEquals(
+                60_000,
+                mockEmployeeStore.findById(sampleEmployee.getId()).orElseThrow().getSalary());
+    }
+
+    @Test
+    void updateEmployee_WhenIfMatchIsWeak_ShouldReject() {
+        final var weakETag = "W/" + MockEmployeeETags.of(sampleEmployee);
+
+        assertThrows(
+                StaleMockEmployeeException.class,
+                () -> mockEmployeeController.updateEmployee(sampleEmployee.getId(), weakETag, salary(60_000)));
+    }
+
+    @Test
+    void updateEmployee_WhenIfMatchIsWildcard_ShouldUpdate() {
+        mockEmployeeController.updateEmployee(sampleEmployee.getId(), null, salary(60_000));
+
+        final var response = mockEmployeeController.updateEmployee(sampleEmployee.getId(), "*", salary(70_000));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(70_000, response.getBody().data().getSalary());
+    }
+
+    private static CreateMockEmployeeInput replacement() {
+        final var input = new CreateMockEmployeeInput();
+        input.setName("Jane Doe");
+        input.setSalary(55_000);
+        input.setAge(35);
+        input.setTitle("Manager");
+        return input;
+    }
+
+    private static UpdateMockEmployeeInput salary(int salary) {
+        final var input = new UpdateMockEmployeeInput();
+        input.setSalary(salary);
+        return input;
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.server.fault;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FaultInjectorTest {
+
+    private static final FaultRule FLAKY_READS = new FaultRule(
+            "GET",
+            "/api/v1/employee/*",
+            new FaultRule.Latency(FaultRule.Latency.Distribution.LOG_NORMAL, 40, 0.8),
+            0.3,
+            null,
+            0.2,
+            0);
+
+    @Test
+    void next_WhenSeedIsSame_ShouldDrawSameFaults() {
+        final var first = new FaultInjector(new FaultProfile(42L, List.of(FLAKY_READS)));
+        final var second = new FaultInjector(new FaultProfile(42L, List.of(FLAKY_READS)));
+
+        final var faults = draw(first, 200);
+
+        assertEquals(faults, draw(second, 200));
+        assertTrue(faults.stream().anyMatch(Fault::reset));
+        assertTrue(faults.stream().anyMatch(fault -> fault.errorStatus() == 503));
+        assertTrue(faults.stream().anyMatch(fault -> !fault.reset() && fault.errorStatus() == 0));
+    }
+
+    @Test
+    void next_WhenSeedDiffers_ShouldDrawDifferentFaults() {
+        final var first = new FaultInjector(new FaultProfile(42L, List.of(FLAKY_READS)));
+        final var second = new FaultInjector(new FaultProfile(43L, List.of(FLAKY_READS)));
+
+        assertNotEquals(draw(first, 200), draw(second, 200));
+    }
+
+    @Test
+    void install_WhenProfileIsReinstalled_ShouldRestartTheSequence() {
+        final var injector = new FaultInjector(new FaultProfile(42L, List.of(FLAKY_READS)));
+        final var faults = draw(injector, 50);
+
+        injector.install(new FaultProfile(42L, List.of(FLAKY_READS)));
+
+        assertEquals(faults, draw(injector, 50));
+    }
+
+    @Test
+    void install_WhenSeedIsMissing_ShouldChooseAndReportOne() {
+        final var injector = new FaultInjector(FaultProfile.NONE);
+
+        final var installed = injector.install(new FaultProfile(null, List.of(FLAKY_READS)));
+
+        assertNotNull(installed.seed());
+        assertEquals(installed, injector.profile());
+    }
+
+    @Test
+    void next_WhenMethodDoesNotMatch_ShouldReturnNull() {
+        final var injector = new FaultInjector(new FaultProfile(42L, List.of(FLAKY_READS)));
+
+        assertNull(injector.next("DELETE", "/api/v1/employee/abc"));
+        assertNotNull(injector.next("get", "/api/v1/employee/abc"));
+    }
+
+    @Test
+    void next_WhenPathDoesNotMatch_ShouldReturnNull() {
+        final var injector = new FaultInjector(new FaultProfile(42L, List.of(FLAKY_READS)));
+
+        assertNull(injector.next("GET", "/api/v1/employee"));
+        assertNull(injector.next("GET", "/api/v1/employee/abc/def"));
+    }
+
+    @Test
+    void next_WhenSeveralRulesMatch_ShouldApplyTheFirst() {
+        final var errors = new FaultRule(null, "/api/v1/employee/*", null, 1, 502, 0, 0);
+        final var drip = new FaultRule(null, null, null, 0, null, 0, 1024);
+        final var injector = new FaultInjector(new FaultProfile(42L, List.of(errors, drip)));
+
+        assertEquals(new Fault(0, 502, false, 0), injector.next("POST", "/api/v1/employee/abc"));
+        assertEquals(new Fault(0, 0, false, 1024), injector.next("POST", "/api/v1/employee"));
+    }
+
+    private static List<Fault> draw(FaultInjector injector, int requests) {
+        final var faults = new ArrayList<Fault>();
+        for (int i = 0; i < requests; i++) {
+            faults.add(injector.next("GET", "/api/v1/employee/" + i));
+        }
+        return faults;
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeETagsTest {
+
+    private final MockEmployee sampleEmployee = MockEmployee.builder()
+            .id(UUID.randomUUID())
+            .name("John Doe")
+            .salary(50_000)
+            .age(30)
+            .title("Engineer")
+            .email("jdoe@company.com")
+            .build();
+
+    @Test
+    void of_WhenContentIsEqual_ShouldReturnSameQuotedTag() {
+        final var eTag = MockEmployeeETags.of(sampleEmployee);
+
+        assertEquals(eTag, MockEmployeeETags.of(sampleEmployee.toBuilder().build()));
+        assertTrue(eTag.matches("\"[0-9a-f]{16}\""));
+    }
+
+    @Test
+    void of_WhenAnyFieldChanges_ShouldReturnDifferentTag() {
+        final var changed = List.of(
+                sampleEmployee.toBuilder().id(UUID.randomUUID()).build(),
+                sampleEmployee.toBuilder().name("Jane Doe").build(),
+                sampleEmployee.toBuilder().salary(50_001).build(),
+                sampleEmployee.toBuilder().age(31).build(),
+                sampleEmployee.toBuilder().title("Manager").build(),
+                sampleEmployee.toBuilder().email("jane@company.com").build());
+
+        final var eTag = MockEmployeeETags.of(sampleEmployee);
+        for (final var mockEmployee : changed) {
+            assertNotEquals(eTag, MockEmployeeETags.of(mockEmployee), mockEmployee.toString());
+        }
+    }
+
+    @Test
+    void of_WhenTextMovesBetweenFields_ShouldReturnDifferentTag() {
+        final var first = sampleEmployee.toBuilder().name("ab").title("c").build();
+        final var second = sampleEmployee.toBuilder().name("a").title("bc").build();
+        final var empty = sampleEmployee.toBuilder().title("").build();
+        final var missing = sampleEmployee.toBuilder().title(null).build();
+
+        assertNotEquals(MockEmployeeETags.of(first), MockEmployeeETags.of(second));
+        assertNotEquals(MockEmployeeETags.of(empty), MockEmployeeETags.of(missing));
+    }
+
+    @Test
+    void matches_WhenIfMatchListsTags_ShouldCompareStrongly() {
+        final var eTag = MockEmployeeETags.of(sampleEmployee);
+
+        assertTrue(MockEmployeeETags.matches("\"0000000000000000\", " + eTag, sampleEmployee));
+        assertTrue(MockEmployeeETags.matches("*", sampleEmployee));
+        assertFalse(MockEmployeeETags.matches("W/" + eTag, sampleEmployee));
+        assertFalse(MockEmployeeETags.matches("\"0000000000000000\"", sampleEmployee));
+    }
+}
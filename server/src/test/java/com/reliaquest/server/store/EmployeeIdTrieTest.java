@@ -0,0 +1,133 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeIdTrieTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    void with_WhenIdIsNew_ShouldAddIt() {
+        final var id = randomId();
+
+        final var trie = EmployeeIdTrie.EMPTY.with(id, 7);
+
+        assertEquals(7, trie.get(id));
+        assertEquals(1, trie.size());
+        assertEquals(-1, trie.get(randomId()));
+        assertEquals(-1, EmployeeIdTrie.EMPTY.get(id));
+    }
+
+    @Test
+    void with_WhenIdIsPresent_ShouldReplaceItsSlot() {
+        final var id = randomId();
+
+        final var trie = EmployeeIdTrie.EMPTY.with(id, 1).with(id, 2);
+
+        assertEquals(2, trie.get(id));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    void with_WhenPrefixesCollide_ShouldSplitUntilIdsPartWays() {
+        final var first = randomId();
+        final var second = collidingWith(first, 3);
+
+        final var trie = EmployeeIdTrie.EMPTY.with(first, 0).with(second, 1);
+
+        assertEquals(0, trie.get(first));
+        assertEquals(1, trie.get(second));
+        assertEquals(2, trie.size());
+        assertTrue(trie.depth(first) > 3);
+        assertEquals(trie.depth(first), trie.depth(second));
+    }
+
+    @Test
+    void without_WhenPrefixesCollided_ShouldCollapseTheChain() {
+        final var first = randomId();
+        final var second = collidingWith(first, 3);
+        final var trie = EmployeeIdTrie.EMPTY.with(first, 0).with(second, 1);
+
+        final var removed = trie.without(first);
+
+        assertEquals(-1, removed.get(first));
+        assertEquals(1, removed.get(second));
+        assertEquals(1, removed.size());
+        assertEquals(1, removed.depth(second));
+        // The previous version is unchanged.
+        assertEquals(0, trie.get(first));
+        assertEquals(2, trie.size());
+    }
+
+    @Test
+    void without_WhenSiblingsRemain_ShouldKeepThemReachable() {
+        final var first = randomId();
+        final var second = collidingWith(first, 2);
+        final var third = randomId();
+        final var trie = EmployeeIdTrie.EMPTY.with(first, 0).with(second, 1).with(third, 2);
+
+        final var removed = trie.without(second);
+
+        assertEquals(0, removed.get(first));
+        assertEquals(-1, removed.get(second));
+        assertEquals(2, removed.get(third));
+        assertEquals(2, removed.size());
+        assertEquals(1, removed.depth(first));
+    }
+
+    @Test
+    void without_WhenIdIsAbsent_ShouldReturnSameTrie() {
+        final var trie = EmployeeIdTrie.EMPTY.with(randomId(), 0);
+
+        assertSame(trie, trie.without(randomId()));
+        assertSame(EmployeeIdTrie.EMPTY, EmployeeIdTrie.EMPTY.without(randomId()));
+    }
+
+    @Test
+    void without_WhenLastIdIsRemoved_ShouldReturnEmpty() {
+        final var id = randomId();
+
+        assertSame(EmployeeIdTrie.EMPTY, EmployeeIdTrie.EMPTY.with(id, 0).without(id));
+    }
+
+    @Test
+    void withAndWithout_WhenManyIds_ShouldMatchHashMap() {
+        final var expected = new HashMap<UUID, Integer>();
+        var trie = EmployeeIdTrie.EMPTY;
+        for (int slot = 0; slot < 20_000; slot++) {
+            final var id = randomId();
+            expected.put(id, slot);
+            trie = trie.with(id, slot);
+        }
+        for (final var id : expected.keySet().stream().toList()) {
+            if (random.nextBoolean()) {
+                expected.remove(id);
+                trie = trie.without(id);
+            }
+        }
+
+        assertEquals(expected.size(), trie.size());
+        for (final var entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), trie.get(entry.getKey()));
+        }
+    }
+
+    private UUID randomId() {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+
+    // Draws ids until one shares the first id's path for at least the given number of levels.
+    private UUID collidingWith(UUID first, int levels) {
+        while (true) {
+            final var candidate = randomId();
+            if (EmployeeIdTrie.EMPTY.with(first, 0).with(candidate, 1).depth(candidate) > levels) {
+                return candidate;
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedMockEmployeeStoreTest {
+
+    private static final List<MockEmployee> SEED = IntStream.range(0, 3)
+            .mapToObj(MappedMockEmployeeStoreTest::employee)
+            .toList();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void open_WhenNoDataFile_ShouldSeed() throws IOException {
+        try (var store = MappedMockEmployeeStore.open(directory, SEED::stream)) {
+            assertEquals(SEED, store.findAll());
+            assertEquals(SEED.get(1), store.findById(SEED.get(1).getId()).orElseThrow());
+        }
+    }
+
+    @Test
+    void open_WhenReopenedAfterClose_ShouldKeepChangesWithoutSeeding() throws IOException {
+        final var created = employee(3);
+        try (var store = MappedMockEmployeeStore.open(directory, SEED::stream)) {
+            store.add(created);
+            assertTrue(store.remove(SEED.get(0).getId()));
+        }
+
+        try (var store = MappedMockEmployeeStore.open(directory, Stream::empty)) {
+            assertEquals(List.of(SEED.get(1), SEED.get(2), created), store.findAll());
+            assertEquals(0, Files.size(directory.resolve(MappedMockEmployeeStore.LOG_FILE)));
+        }
+    }
+
+    @Test
+    void open_WhenLogHoldsUpdates_ShouldReplayThem() throws IOException {
+        final var updated = SEED.get(0).toBuilder().salary(1).title("Manager").build();
+        final var created = employee(3);
+        final var updatedCreated = created.toBuilder().age(60).build();
+        final var crashed = directory.resolve("crashed");
+        try (var store = MappedMockEmployeeStore.open(directory, SEED::stream)) {
+            assertTrue(store.replace(SEED.get(0), updated));
+            store.add(created);
+            assertTrue(store.replace(created, updatedCreated));
+            // Copies the files before close compacts the log, as if the process had died here.
+            Files.createDirectories(crashed);
+            for (final var file : List.of(MappedMockEmployeeStore.DATA_FILE, MappedMockEmployeeStore.LOG_FILE)) {
+                Files.copy(directory.resolve(file), crashed.resolve(file));
+            }
+        }
+
+        assertTrue(Files.size(crashed.resolve(MappedMockEmployeeStore.LOG_FILE)) > 0);
+        try (var store = MappedMockEmployeeStore.open(crashed, Stream::empty)) {
+            // Updates move the employee to the end.
+            assertEquals(List.of(SEED.get(1), SEED.get(2), updated, updatedCreated), store.findAll());
+            assertEquals(updated, store.findById(SEED.get(0).getId()).orElseThrow());
+            assertFalse(store.replace(SEED.get(0), SEED.get(0)));
+        }
+    }
+
+    @Test
+    void replace_WhenEmployeeChanged_ShouldNotReplace() throws IOException {
+        try (var store = MappedMockEmployeeStore.open(directory, SEED::stream)) {
+            final var stale = SEED.get(0).toBuilder().salary(1).build();
+
+            assertFalse(store.replace(stale, stale.toBuilder().salary(2).build()));
+            assertEquals(SEED, store.findAll());
+            assertEquals(0, store.version());
+        }
+    }
+
+    private static MockEmployee employee(int number) {
+        return MockEmployee.builder()
+                .id(new UUID(number, number))
+                .name("Employee " + number)
+                .salary(50_000 + number)
+                .age(30)
+                .title("Engineer")
+                .email("employee" + number + "@company.com")
+                .build();
+    }
+}
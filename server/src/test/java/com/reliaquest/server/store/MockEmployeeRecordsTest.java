@@ -0,0 +1,84 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeRecordsTest {
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(2 * MockEmployeeRecords.RECORD_SIZE);
+
+    @Test
+    void write_WhenTextFits_ShouldReadItBack() {
+        final var mockEmployee = employee()
+                .name("n".repeat(62))
+                .title("Ingénieure principale")
+                .email("e".repeat(94))
+                .build();
+
+        assertEquals(mockEmployee, writeAndRead(mockEmployee));
+    }
+
+    @Test
+    void write_WhenTextIsTooLong_ShouldTruncateOnCharacterBoundary() {
+        // Two-byte characters after a one-byte one: 61 bytes fit, the next character would end at byte 63.
+        final var name = "a" + "é".repeat(40);
+        // Four-byte characters, stored as surrogate pairs: 31 of them end at byte 124.
+        final var title = "😀".repeat(40);
+        final var email = "ü".repeat(60);
+
+        final var read =
+                writeAndRead(employee().name(name).title(title).email(email).build());
+
+        assertEquals("a" + "é".repeat(30), read.getName());
+        assertEquals("😀".repeat(31), read.getTitle());
+        assertEquals("ü".repeat(47), read.getEmail());
+        assertTrue(read.getEmail().getBytes(StandardCharsets.UTF_8).length <= 94);
+    }
+
+    @Test
+    void write_WhenValuesAreNull_ShouldReadBackNull() {
+        final var mockEmployee = MockEmployee.builder().id(UUID.randomUUID()).build();
+
+        assertEquals(mockEmployee, writeAndRead(mockEmployee));
+    }
+
+    @Test
+    void write_WhenValuesAreEmptyOrZero_ShouldNotReadBackNull() {
+        final var mockEmployee =
+                employee().salary(0).age(0).name("").title("").email("").build();
+
+        assertEquals(mockEmployee, writeAndRead(mockEmployee));
+    }
+
+    @Test
+    void markDeleted_WhenValuesAreNull_ShouldKeepThem() {
+        final var mockEmployee = employee().salary(null).title(null).build();
+        MockEmployeeRecords.write(buffer, MockEmployeeRecords.RECORD_SIZE, mockEmployee);
+
+        MockEmployeeRecords.markDeleted(buffer, MockEmployeeRecords.RECORD_SIZE);
+
+        assertFalse(MockEmployeeRecords.isLive(buffer, MockEmployeeRecords.RECORD_SIZE));
+        assertEquals(mockEmployee, MockEmployeeRecords.read(buffer, MockEmployeeRecords.RECORD_SIZE));
+    }
+
+    private MockEmployee writeAndRead(MockEmployee mockEmployee) {
+        MockEmployeeRecords.write(buffer, MockEmployeeRecords.RECORD_SIZE, mockEmployee);
+        assertTrue(MockEmployeeRecords.isLive(buffer, MockEmployeeRecords.RECORD_SIZE));
+        return MockEmployeeRecords.read(buffer, MockEmployeeRecords.RECORD_SIZE);
+    }
+
+    private static MockEmployee.MockEmployeeBuilder employee() {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .salary(50_000)
+                .age(30)
+                .title("Engineer")
+                .email("jdoe@company.com");
+    }
+}
@@ -0,0 +1,99 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeSnapshotTest {
+
+    @Test
+    void with_WhenIdIsNew_ShouldAppend() {
+        final var first = employee(0);
+        final var second = employee(1);
+
+        final var snapshot = MockEmployeeSnapshot.of(0, List.of(first)).with(second);
+
+        assertEquals(List.of(first, second), snapshot.employees());
+        assertEquals(1, snapshot.version());
+    }
+
+    @Test
+    void with_WhenIdIsPresent_ShouldReplaceInPlace() {
+        final var first = employee(0);
+        final var second = employee(1);
+        final var updated = first.toBuilder().salary(1).build();
+
+        final var snapshot = MockEmployeeSnapshot.of(0, List.of(first, second)).with(updated);
+
+        assertEquals(List.of(updated, second), snapshot.employees());
+        assertEquals(updated, snapshot.findById(first.getId()).orElseThrow());
+    }
+
+    @Test
+    void without_WhenMostSlotsAreEmpty_ShouldCompactPreservingOrder() {
+        final var mockEmployees = IntStream.range(0, 3000)
+                .mapToObj(MockEmployeeSnapshotTest::employee)
+                .toList();
+        var snapshot = MockEmployeeSnapshot.of(0, mockEmployees);
+        final var expected = new ArrayList<MockEmployee>();
+        for (int i = 0; i < mockEmployees.size(); i++) {
+            // Keeps every third employee, so compaction kicks in on the way.
+            if (i % 3 == 0) {
+                expected.add(mockEmployees.get(i));
+            } else {
+                snapshot = snapshot.without(mockEmployees.get(i).getId());
+            }
+        }
+
+        assertEquals(expected, snapshot.employees());
+        assertEquals(expected.size(), snapshot.size());
+        assertEquals(2000, snapshot.version());
+        for (final var mockEmployee : mockEmployees) {
+            assertEquals(
+                    expected.contains(mockEmployee),
+                    snapshot.findById(mockEmployee.getId()).isPresent());
+        }
+
+        final var appended = employee(3000);
+        final var updated = expected.get(0).toBuilder().salary(1).build();
+        final var changed = snapshot.with(appended).with(updated);
+        expected.add(appended);
+        expected.set(0, updated);
+        assertEquals(expected, changed.employees());
+    }
+
+    @Test
+    void without_WhenIdIsAbsent_ShouldReturnSameSnapshot() {
+        final var snapshot = MockEmployeeSnapshot.of(0, List.of(employee(0)));
+
+        assertSame(snapshot, snapshot.without(UUID.randomUUID()));
+    }
+
+    @Test
+    void employees_WhenSnapshotChanges_ShouldStayUnchanged() {
+        final var first = employee(0);
+        final var snapshot = MockEmployeeSnapshot.of(0, List.of(first));
+        final var employees = snapshot.employees();
+
+        snapshot.with(employee(1)).without(first.getId());
+
+        assertEquals(List.of(first), employees);
+        assertEquals(List.of(first), snapshot.employees());
+    }
+
+    private static MockEmployee employee(int number) {
+        return MockEmployee.builder()
+                .id(new UUID(number, number))
+                .name("Employee " + number)
+                .salary(50_000 + number)
+                .age(30)
+                .title("Engineer")
+                .email("employee" + number + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.fault.FaultInjector;
+import com.reliaquest.server.fault.FaultProfile;
+import com.reliaquest.server.fault.FaultRule;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+class FaultInjectionFilterTest {
+
+    private static final String BODY = "x".repeat(200);
+
+    private FaultInjector faultInjector;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        faultInjector = new FaultInjector(FaultProfile.NONE);
+        mockMvc = MockMvcBuilders.standaloneSetup(new BodyController())
+                .addFilters(new FaultInjectionFilter(faultInjector, new ObjectMapper()))
+                .build();
+    }
+
+    @Test
+    void doFilter_WhenNoRulesAreInstalled_ShouldPassThrough() throws Exception {
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(BODY));
+    }
+
+    @Test
+    void doFilter_WhenErrorIsDrawn_ShouldAnswerWithErrorStatus() throws Exception {
+        install(new FaultRule(null, null, null, 1, 502, 0, 0));
+
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isBadGateway())
+                .andExpect(jsonPath("$.error").value("Injected fault, status 502"));
+    }
+
+    @Test
+    void doFilter_WhenResetIsDrawn_ShouldCutOffBodyAndCloseConnection() throws Exception {
+        install(new FaultRule(null, null, null, 0, null, 1, 0));
+
+        final var response =
+                mockMvc.perform(get("/api/v1/employee")).andReturn().getResponse();
+
+        assertEquals("close", response.getHeader(HttpHeaders.CONNECTION));
+        assertEquals("{\"data\":[", response.getContentAsString());
+        assertTrue(response.getContentLength() > response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void doFilter_WhenDripIsDrawn_ShouldTrickleOutWholeBody() throws Exception {
+        install(new FaultRule(null, null, null, 0, null, 0, 1000));
+
+        final var started = System.nanoTime();
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(BODY));
+
+        // 200 bytes at 1000 bytes per second.
+        assertTrue(System.nanoTime() - started >= TimeUnit.MILLISECONDS.toNanos(150));
+    }
+
+    @Test
+    void doFilter_WhenPathIsAdmin_ShouldNotFault() throws Exception {
+        install(new FaultRule(null, null, null, 1, 502, 0, 0));
+
+        mockMvc.perform(get("/admin/faults")).andExpect(status().isOk());
+    }
+
+    private void install(FaultRule rule) {
+        faultInjector.install(new FaultProfile(42L, List.of(rule)));
+    }
+
+    @RestController
+    static class BodyController {
+
+        @GetMapping({"/api/v1/employee", "/admin/faults"})
+        public String body() {
+            return BODY;
+        }
+    }
+}